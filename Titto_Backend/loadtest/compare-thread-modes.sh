@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드와 가상 스레드 모드에서 같은 부하를 걸어 처리량과 p99를 비교
+# 사용법: TOKEN=<access token> ./loadtest/compare-thread-modes.sh
+# 요구 사항: Java 21, k6, jq, 로컬 MySQL/Redis (application.yml 설정 기준)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+JAR_FILE="build/libs/Titto_Backend-0.0.1-SNAPSHOT.jar"
+: "${TOKEN:?TOKEN 환경 변수가 필요합니다}"
+
+./gradlew bootJar -q
+
+run_mode() {
+  local mode=$1
+  local app_args=""
+  local java_opts=""
+  if [ "$mode" = "virtual" ]; then
+    app_args="--spring.profiles.active=local,production,virtual"
+    java_opts="-Djdk.tracePinnedThreads=short"
+  fi
+
+  java $java_opts -jar "$JAR_FILE" $app_args > "loadtest/app-$mode.log" 2>&1 &
+  local pid=$!
+  trap "kill $pid 2>/dev/null || true" EXIT
+
+  until curl -s -o /dev/null "$BASE_URL/swagger-ui.html"; do sleep 1; done
+
+  k6 run -q -e BASE_URL="$BASE_URL" -e TOKEN="$TOKEN" -e MODE="$mode" loadtest/k6/thread-mode.js
+
+  kill "$pid" && wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform
+run_mode virtual
+
+echo "mode      throughput(req/s)  endpoint          p50(ms)   p99(ms)"
+for mode in platform virtual; do
+  jq -r --arg mode "$mode" '
+    .throughput as $t
+    | .endpoints | to_entries[]
+    | [$mode, ($t | floor), .key, (.value.p50 | floor), (.value.p99 | floor)]
+    | @tsv' "loadtest/result-$mode.json"
+done | column -t
+
+# 가상 스레드 모드에서 pinning 발생 여부 (jdk.tracePinnedThreads 출력)
+echo "pinned thread traces (virtual): $(grep -c '<== monitors' loadtest/app-virtual.log || true)"
@@ -0,0 +1,48 @@
+// Redis 장애(CLIENT PAUSE) 중에도 API가 제한된 지연 시간 안에 응답하는지 확인
+// 실행: loadtest/redis/chaos-pause.sh 에서 호출 (직접 실행 시 -e BASE_URL, -e TOKEN 지정)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const QUESTION_ID = __ENV.QUESTION_ID || '1';
+const RATE = parseInt(__ENV.RATE || '100', 10);
+const DURATION = __ENV.DURATION || '90s';
+const P99_LIMIT_MS = parseInt(__ENV.P99_LIMIT_MS || '1000', 10);
+
+// 블랙리스트 확인(JwtFilter), 조회수 중복 체크, 읽지 않은 메시지 수는 Redis 장애 시 폴백으로 응답해야 함
+const ENDPOINTS = [
+    { name: 'question_detail', path: `/questions/${QUESTION_ID}` },
+    { name: 'question_list', path: '/questions/posts?page=0' },
+    { name: 'message_unread', path: '/message/unread-count' },
+    { name: 'user_ranking', path: '/user/ranking' },
+];
+
+export const options = {
+    scenarios: {
+        constant_load: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 100,
+            maxVUs: 1000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        ...Object.fromEntries(
+            ENDPOINTS.map((e) => [`http_req_duration{endpoint:${e.name}}`, [`p(99)<${P99_LIMIT_MS}`]])
+        ),
+    },
+};
+
+export default function () {
+    const endpoint = ENDPOINTS[Math.floor(Math.random() * ENDPOINTS.length)];
+    const res = http.get(`${BASE_URL}${endpoint.path}`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+        tags: { endpoint: endpoint.name },
+    });
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,172 @@
+// 사용자 시나리오 부하 테스트 (둘러보기, 검색, 상세 조회, 답변, 채택, 메시지)
+// 먼저 ./gradlew seedLoadTestData 로 데이터와 loadtest/build/seed.json 을 만든 뒤 실행
+// 실행: k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/scenarios.js  (또는 loadtest/run-scenarios.sh)
+// 결과: 엔드포인트별 처리량(req/s)과 지연 시간 분위수를 loadtest/result-scenarios.json 에 기록
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+import { SharedArray } from 'k6/data';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SEED_FILE = __ENV.SEED_FILE || '../build/seed.json';
+const DURATION = __ENV.DURATION || '3m';
+const SCALE = parseFloat(__ENV.SCALE || '1');
+
+// seed 파일은 VU마다 복사되지 않도록 SharedArray로만 읽음
+const users = new SharedArray('users', () => JSON.parse(open(SEED_FILE)).users);
+const acceptable = new SharedArray('acceptable', () => JSON.parse(open(SEED_FILE)).acceptable);
+const meta = new SharedArray('meta', () => {
+    const seed = JSON.parse(open(SEED_FILE));
+    return [{ questionIds: seed.questionIds, matchingPostIds: seed.matchingPostIds, keywords: seed.keywords }];
+})[0];
+const [QUESTION_MIN, QUESTION_MAX] = meta.questionIds;
+const [POST_MIN, POST_MAX] = meta.matchingPostIds;
+const DEPARTMENTS = ['HUMANITIES', 'MANAGEMENT', 'SOCIETY', 'MEDIA_CONTENT', 'FUTURE_FUSION', 'SOFTWARE'];
+
+const ENDPOINTS = [
+    'question_list', 'question_category', 'matching_list',
+    'question_search', 'matching_search',
+    'question_detail', 'matching_detail',
+    'answer_create', 'answer_accept',
+    'message_write', 'message_list',
+];
+
+// 시나리오별 초당 도착률 (SCALE로 전체 비율 유지한 채 조절)
+function arrival(exec, rate) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec,
+        rate: Math.max(1, Math.round(rate * SCALE)),
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: 50,
+        maxVUs: 500,
+    };
+}
+
+export const options = {
+    scenarios: {
+        browse: arrival('browse', 120),
+        search: arrival('search', 30),
+        view_detail: arrival('viewDetail', 100),
+        answer: arrival('answer', 10),
+        accept: arrival('accept', 2),
+        message: arrival('message', 20),
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    // 엔드포인트별 하위 지표를 만들기 위한 threshold (요약에 분위수와 요청 수가 나오도록)
+    thresholds: Object.fromEntries(ENDPOINTS.flatMap((e) => [
+        [`http_req_duration{endpoint:${e}}`, ['p(99)<3000']],
+        [`http_reqs{endpoint:${e}}`, ['count>=0']],
+    ])),
+};
+
+function pick(array) {
+    return array[Math.floor(Math.random() * array.length)];
+}
+
+function between(min, max) {
+    return min + Math.floor(Math.random() * (max - min + 1));
+}
+
+// 첫 페이지(캐시)와 그 이후 페이지를 8:2로 섞음
+function page() {
+    return Math.random() < 0.8 ? 0 : between(1, 9);
+}
+
+function request(method, path, endpoint, body) {
+    const user = pick(users);
+    const res = http.request(method, `${BASE_URL}${path}`, body ? JSON.stringify(body) : null, {
+        headers: { Authorization: `Bearer ${user.token}`, 'Content-Type': 'application/json' },
+        tags: { endpoint },
+    });
+    check(res, { 'status is 2xx/304': (r) => (r.status >= 200 && r.status < 300) || r.status === 304 });
+    return res;
+}
+
+export function browse() {
+    const r = Math.random();
+    if (r < 0.45) {
+        request('GET', `/questions/posts?page=${page()}`, 'question_list');
+    } else if (r < 0.7) {
+        request('GET', `/questions/category/${pick(DEPARTMENTS)}?page=${page()}`, 'question_category');
+    } else {
+        request('GET', `/matching-board/all?page=${page()}`, 'matching_list');
+    }
+}
+
+export function search() {
+    const keyword = encodeURIComponent(pick(meta.keywords));
+    if (Math.random() < 0.6) {
+        request('GET', `/questions/search?page=0&keyWord=${keyword}`, 'question_search');
+    } else {
+        request('GET', `/matching-board/search?page=0&keyWord=${keyword}`, 'matching_search');
+    }
+}
+
+export function viewDetail() {
+    if (Math.random() < 0.6) {
+        request('GET', `/questions/${between(QUESTION_MIN, QUESTION_MAX)}`, 'question_detail');
+    } else {
+        request('GET', `/matching-post/get/${between(POST_MIN, POST_MAX)}`, 'matching_detail');
+    }
+}
+
+export function answer() {
+    request('POST', '/answers/create', 'answer_create', {
+        questionId: between(QUESTION_MIN, QUESTION_MAX),
+        content: '부하 테스트 답변입니다.',
+    });
+}
+
+// 채택은 질문 작성자 토큰으로 한 번만 가능하므로 seed의 미채택 목록을 순서대로 사용
+export function accept() {
+    const index = exec.scenario.iterationInTest;
+    if (index >= acceptable.length) {
+        return;
+    }
+    const target = acceptable[index];
+    const user = users[target.user];
+    const res = http.put(`${BASE_URL}/answers/accept/${target.answerId}?questionId=${target.questionId}`, null, {
+        headers: { Authorization: `Bearer ${user.token}` },
+        tags: { endpoint: 'answer_accept' },
+    });
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function message() {
+    if (Math.random() < 0.5) {
+        request('POST', '/message/write', 'message_write', {
+            content: '부하 테스트 메시지입니다.',
+            receiverNickname: pick(users).nickname,
+        });
+    } else {
+        request('GET', '/message/all', 'message_list');
+    }
+}
+
+export function handleSummary(data) {
+    const result = {
+        duration: DURATION,
+        scale: SCALE,
+        throughput: data.metrics.http_reqs.values.rate,
+        failed: data.metrics.http_req_failed.values.rate,
+        endpoints: {},
+    };
+    for (const e of ENDPOINTS) {
+        const duration = data.metrics[`http_req_duration{endpoint:${e}}`];
+        const reqs = data.metrics[`http_reqs{endpoint:${e}}`];
+        if (duration && reqs && reqs.values.count > 0) {
+            result.endpoints[e] = {
+                count: reqs.values.count,
+                rps: reqs.values.rate,
+                p50: duration.values['p(50)'],
+                p90: duration.values['p(90)'],
+                p95: duration.values['p(95)'],
+                p99: duration.values['p(99)'],
+                max: duration.values.max,
+            };
+        }
+    }
+    return { 'loadtest/result-scenarios.json': JSON.stringify(result, null, 2) };
+}
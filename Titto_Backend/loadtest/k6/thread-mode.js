@@ -0,0 +1,61 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 부하 테스트
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> -e MODE=virtual loadtest/k6/thread-mode.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const MODE = __ENV.MODE || 'platform';
+const QUESTION_ID = __ENV.QUESTION_ID || '1';
+const RATE = parseInt(__ENV.RATE || '300', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+// DB(MySQL), Redis(JwtFilter 블랙리스트, 조회수 중복 체크)를 거치는 대표 엔드포인트
+const ENDPOINTS = [
+    { name: 'question_list', path: '/questions/posts?page=0' },
+    { name: 'question_detail', path: `/questions/${QUESTION_ID}` },
+    { name: 'matching_list', path: '/matching-board/all?page=0' },
+    { name: 'user_ranking', path: '/user/ranking' },
+    { name: 'message_unread', path: '/message/unread-count' },
+];
+
+export const options = {
+    scenarios: {
+        // 도착률 고정: 처리량이 부족하면 대기 VU가 늘어나고 지연 시간에 그대로 반영됨
+        constant_load: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+    thresholds: Object.fromEntries(
+        ENDPOINTS.map((e) => [`http_req_duration{endpoint:${e.name}}`, ['p(99)<2000']])
+    ),
+};
+
+export default function () {
+    const endpoint = ENDPOINTS[Math.floor(Math.random() * ENDPOINTS.length)];
+    const res = http.get(`${BASE_URL}${endpoint.path}`, {
+        headers: { Authorization: `Bearer ${TOKEN}` },
+        tags: { endpoint: endpoint.name },
+    });
+    check(res, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function handleSummary(data) {
+    const result = { mode: MODE, rate: RATE, endpoints: {} };
+    result.throughput = data.metrics.http_reqs.values.rate;
+    result.failed = data.metrics.http_req_failed.values.rate;
+    for (const e of ENDPOINTS) {
+        const metric = data.metrics[`http_req_duration{endpoint:${e.name}}`];
+        if (metric) {
+            result.endpoints[e.name] = { p50: metric.values['p(50)'], p99: metric.values['p(99)'] };
+        }
+    }
+    return { [`loadtest/result-${MODE}.json`]: JSON.stringify(result, null, 2) };
+}
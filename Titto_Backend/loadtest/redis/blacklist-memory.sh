@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# 토큰 블랙리스트 키 방식별 Redis 메모리 사용량 비교 (로그아웃 N건 시뮬레이션)
+#   raw    : 기존 방식, 액세스 토큰(JWT) 원문을 키로 사용
+#   digest : blacklist:{SHA-256 base64url} (jti 없는 토큰)
+#   jti    : blacklist:{jti} (128비트 난수 base64url, 22자)
+# 사용법: ./loadtest/redis/blacklist-memory.sh [건수]   (기본 1,000,000건, 로컬 Redis 필요)
+# 주의: 측정 대상 Redis의 DB 15를 비우고 사용함
+set -euo pipefail
+
+COUNT="${1:-1000000}"
+REDIS_CLI="redis-cli -n 15 ${REDIS_HOST:+-h $REDIS_HOST} ${REDIS_PORT:+-p $REDIS_PORT}"
+TTL_SECONDS=86400
+
+# 실제 액세스 토큰과 같은 길이(헤더 + 페이로드 + 서명, 약 230자)의 임의 문자열 생성
+generate_keys() {
+  local mode=$1
+  awk -v count="$COUNT" -v mode="$mode" -v ttl="$TTL_SECONDS" -v seed="$RANDOM" '
+    function rand_str(len,    s, i) {
+      s = ""
+      for (i = 0; i < len; i++) s = s substr(chars, int(rand() * 64) + 1, 1)
+      return s
+    }
+    function bulk(str) {
+      return sprintf("$%d\r\n%s\r\n", length(str), str)
+    }
+    BEGIN {
+      srand(seed)
+      chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+      header = "eyJhbGciOiJIUzI1NiJ9"
+      for (n = 0; n < count; n++) {
+        if (mode == "raw") key = header "." rand_str(166) "." rand_str(43)
+        else if (mode == "digest") key = "blacklist:" rand_str(43)
+        else key = "blacklist:" rand_str(22)
+        value = (mode == "raw") ? "logout" : "1"
+        printf "*5\r\n%s%s%s%s%s", bulk("SET"), bulk(key), bulk(value), bulk("EX"), bulk(ttl)
+      }
+    }'
+}
+
+used_memory() {
+  $REDIS_CLI info memory | awk -F: '/^used_memory:/ { gsub("\r", "", $2); print $2 }'
+}
+
+printf "%-8s %12s %14s %14s\n" "mode" "keys" "used(MB)" "bytes/key"
+for mode in raw digest jti; do
+  $REDIS_CLI flushdb > /dev/null
+  before=$(used_memory)
+  generate_keys "$mode" | $REDIS_CLI --pipe > /dev/null
+  after=$(used_memory)
+  keys=$($REDIS_CLI dbsize)
+  awk -v m="$mode" -v k="$keys" -v b="$before" -v a="$after" \
+    'BEGIN { printf "%-8s %12d %14.1f %14.1f\n", m, k, (a - b) / 1048576, (a - b) / k }'
+done
+$REDIS_CLI flushdb > /dev/null
@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# Redis 장애 주입 테스트: 부하를 거는 동안 로컬 Redis를 CLIENT PAUSE로 멈춘 뒤 응답 지연/오류율 확인
+#   0~30초  : 정상
+#   30~60초 : Redis 일시 정지 (명령 타임아웃 -> 서킷 브레이커 OPEN -> 폴백)
+#   60~90초 : 복구 (HALF_OPEN -> CLOSED)
+# 사용법: TOKEN=<access token> ./loadtest/redis/chaos-pause.sh
+# 필요: k6, redis-cli, 로컬에서 실행 중인 애플리케이션과 Redis
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+REDIS_CLI="redis-cli ${REDIS_HOST:+-h $REDIS_HOST} ${REDIS_PORT:+-p $REDIS_PORT}"
+PAUSE_AFTER_SECONDS="${PAUSE_AFTER_SECONDS:-30}"
+PAUSE_SECONDS="${PAUSE_SECONDS:-30}"
+: "${TOKEN:?TOKEN 환경 변수(액세스 토큰)가 필요합니다}"
+
+cd "$(dirname "$0")/../.."
+
+k6 run -e BASE_URL="$BASE_URL" -e TOKEN="$TOKEN" -e DURATION=90s \
+  --summary-export loadtest/result-redis-chaos.json loadtest/k6/redis-chaos.js &
+K6_PID=$!
+
+sleep "$PAUSE_AFTER_SECONDS"
+echo "Redis ${PAUSE_SECONDS}초 일시 정지"
+$REDIS_CLI CLIENT PAUSE $((PAUSE_SECONDS * 1000)) ALL > /dev/null
+
+sleep "$PAUSE_SECONDS"
+echo "Redis 재개 (서킷 브레이커는 wait-in-open-ms 이후 HALF_OPEN으로 전환)"
+
+wait "$K6_PID"
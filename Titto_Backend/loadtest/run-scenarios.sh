@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# 데이터 생성 후 사용자 시나리오 부하 테스트를 실행하고 엔드포인트별 처리량/지연 시간 분위수를 출력
+# 사용법: JWT_SECRET=<애플리케이션과 같은 값> ./loadtest/run-scenarios.sh
+#   SEED=false 이면 기존 loadtest/build/seed.json 을 그대로 사용
+#   SEED_ARGS 로 생성기 옵션 전달 (예: SEED_ARGS="-Pseed.jdbcUrl=jdbc:mysql://localhost:3306/titto -Pseed.user=root")
+# 요구 사항: 실행 중인 애플리케이션(테이블 생성 완료), k6, jq
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+SEED="${SEED:-true}"
+SEED_ARGS="${SEED_ARGS:-}"
+DURATION="${DURATION:-3m}"
+SCALE="${SCALE:-1}"
+: "${JWT_SECRET:?JWT_SECRET 환경 변수가 필요합니다 (시드 사용자 토큰 발급)}"
+
+if [ "$SEED" = "true" ]; then
+  ./gradlew -q seedLoadTestData $SEED_ARGS
+fi
+
+k6 run -q -e BASE_URL="$BASE_URL" -e DURATION="$DURATION" -e SCALE="$SCALE" loadtest/k6/scenarios.js
+
+jq -r '"total throughput: \(.throughput | floor) req/s, failed: \(.failed * 10000 | floor / 100)%"' \
+  loadtest/result-scenarios.json
+{
+  echo "endpoint count req/s p50(ms) p90(ms) p95(ms) p99(ms) max(ms)"
+  jq -r '.endpoints | to_entries[]
+    | [.key, .value.count, (.value.rps * 10 | floor / 10), (.value.p50 | floor), (.value.p90 | floor),
+       (.value.p95 | floor), (.value.p99 | floor), (.value.max | floor)]
+    | @tsv' loadtest/result-scenarios.json
+} | column -t
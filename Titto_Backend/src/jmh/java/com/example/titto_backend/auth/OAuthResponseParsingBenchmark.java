@@ -0,0 +1,94 @@
+package com.example.titto_backend.auth;
+
+import com.example.titto_backend.auth.dto.response.OAuthProviderDTO;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+// 카카오 사용자 정보 응답 파싱 비교: Gson 트리 파싱(기존) vs Jackson 스트림 → DTO 역직렬화
+// 실행: ./gradlew jmh  (gc 프로파일러의 gc.alloc.rate.norm 값으로 요청당 할당량 비교)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OAuthResponseParsingBenchmark {
+
+    private static final String KAKAO_USER_RESPONSE = """
+            {
+              "id": 3214567890,
+              "connected_at": "2024-03-02T07:21:48Z",
+              "properties": {
+                "nickname": "티토",
+                "profile_image": "http://k.kakaocdn.net/dn/abc/img_640x640.jpg",
+                "thumbnail_image": "http://k.kakaocdn.net/dn/abc/img_110x110.jpg"
+              },
+              "kakao_account": {
+                "profile_nickname_needs_agreement": false,
+                "profile_image_needs_agreement": false,
+                "profile": {
+                  "nickname": "티토",
+                  "thumbnail_image_url": "http://k.kakaocdn.net/dn/abc/img_110x110.jpg",
+                  "profile_image_url": "http://k.kakaocdn.net/dn/abc/img_640x640.jpg",
+                  "is_default_image": false,
+                  "has_profile_image": true
+                },
+                "has_email": true,
+                "email_needs_agreement": false,
+                "is_email_valid": true,
+                "is_email_verified": true,
+                "email": "titto@office.skhu.ac.kr"
+              }
+            }
+            """;
+
+    private byte[] body;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        body = KAKAO_USER_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    // 기존 방식: 응답 전체를 String으로 버퍼링 후 Gson 트리를 만들고 필드마다 트리를 다시 탐색
+    @Benchmark
+    public void gsonTree(Blackhole blackhole) {
+        String responseBody = new String(body, StandardCharsets.UTF_8);
+        JsonElement jsonElement = JsonParser.parseString(responseBody).getAsJsonObject();
+
+        blackhole.consume(jsonElement.getAsJsonObject().get("id").getAsLong());
+        blackhole.consume(jsonElement.getAsJsonObject().get("kakao_account").getAsJsonObject().get("has_email")
+                .getAsBoolean());
+        blackhole.consume(jsonElement.getAsJsonObject().get("kakao_account").getAsJsonObject().get("email")
+                .getAsString());
+        blackhole.consume(jsonElement.getAsJsonObject()
+                .getAsJsonObject("kakao_account")
+                .getAsJsonObject("profile")
+                .get("profile_image_url")
+                .getAsString());
+    }
+
+    // 변경 방식: 응답 스트림에서 필요한 필드만 DTO로 바로 역직렬화
+    @Benchmark
+    public void jacksonStream(Blackhole blackhole) throws IOException {
+        OAuthProviderDTO.KakaoUserResponse response = objectMapper.readValue(new ByteArrayInputStream(body),
+                OAuthProviderDTO.KakaoUserResponse.class);
+
+        blackhole.consume(response.getId());
+        blackhole.consume(response.getKakaoAccount().isHasEmail());
+        blackhole.consume(response.getKakaoAccount().getEmail());
+        blackhole.consume(response.getKakaoAccount().getProfile().getProfileImageUrl());
+    }
+}
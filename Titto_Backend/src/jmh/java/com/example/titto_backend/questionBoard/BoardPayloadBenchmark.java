@@ -0,0 +1,155 @@
+package com.example.titto_backend.questionBoard;
+
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.questionBoard.domain.Answer;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionPreviewDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+// 질문 목록 한 페이지(10건) 직렬화 비교: 전체 본문 + 답변 목록(기존) vs 본문 미리보기
+// 고정 시드로 만든 긴 본문(2천~2만 자)과 답변 3개씩을 사용
+// 실행: ./gradlew jmh  (셋업에서 원본/gzip 바이트 수를 출력, 시간은 직렬화 + gzip 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardPayloadBenchmark {
+
+    private static final long SEED = 20240101L;
+    private static final int PAGE_SIZE = 10;
+    private static final int ANSWERS_PER_QUESTION = 3;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하티토질문답변학과수업과제시험 ";
+
+    private ObjectMapper objectMapper;
+    private List<QuestionDTO.Response> fullPage;
+    private List<QuestionPreviewDTO> previewPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        Random random = new Random(SEED);
+
+        fullPage = new ArrayList<>();
+        previewPage = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Question question = question(random, id);
+            fullPage.add(new QuestionDTO.Response(question));
+            previewPage.add(preview(question));
+        }
+
+        System.out.printf("%n[payload] full: %d bytes (gzip %d), preview: %d bytes (gzip %d)%n",
+                serialize(fullPage).length, gzip(serialize(fullPage)).length,
+                serialize(previewPage).length, gzip(serialize(previewPage)).length);
+    }
+
+    @Benchmark
+    public byte[] fullContent() throws IOException {
+        return serialize(fullPage);
+    }
+
+    @Benchmark
+    public byte[] preview() throws IOException {
+        return serialize(previewPage);
+    }
+
+    @Benchmark
+    public byte[] fullContentGzip() throws IOException {
+        return gzip(serialize(fullPage));
+    }
+
+    @Benchmark
+    public byte[] previewGzip() throws IOException {
+        return gzip(serialize(previewPage));
+    }
+
+    private byte[] serialize(Object page) throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static Question question(Random random, long id) {
+        User author = user(id);
+        List<Answer> answers = new ArrayList<>();
+        Question question = Question.builder()
+                .id(id)
+                .author(author)
+                .title("질문 " + id)
+                .content(text(random, 2_000 + random.nextInt(18_000)))
+                .department(Department.SOFTWARE)
+                .status(Status.UNSOLVED)
+                .sendExperience(10)
+                .viewCount(random.nextInt(500))
+                .answerCount(ANSWERS_PER_QUESTION)
+                .answers(answers)
+                .build();
+        for (long a = 1; a <= ANSWERS_PER_QUESTION; a++) {
+            answers.add(Answer.builder()
+                    .id(id * 10 + a)
+                    .question(question)
+                    .author(user(id * 10 + a))
+                    .content(text(random, 500 + random.nextInt(4_500)))
+                    .build());
+        }
+        return question;
+    }
+
+    // 쿼리의 SUBSTRING(content, 1, FETCH_LENGTH) 결과를 흉내 냄
+    private static QuestionPreviewDTO preview(Question question) {
+        String content = question.getContent();
+        String fetched = content.substring(0, Math.min(content.length(), ContentPreview.FETCH_LENGTH));
+        LocalDateTime now = LocalDateTime.now();
+        return new QuestionPreviewDTO(question.getId(), question.getAuthor().getId(),
+                question.getAuthor().getNickname(), question.getDepartment(), question.getStatus(),
+                question.getTitle(), fetched, question.isAnswerAccepted(), question.getViewCount(), now, now,
+                question.getAuthor().getLevel(), question.getAuthor().getProfile(), question.getSendExperience(),
+                question.getAnswerCount());
+    }
+
+    private static User user(long id) {
+        User user = User.builder()
+                .email("user" + id + "@office.skhu.ac.kr")
+                .profile("http://k.kakaocdn.net/dn/abc/img_640x640.jpg")
+                .build();
+        Field idField = ReflectionUtils.findField(User.class, "id");
+        ReflectionUtils.makeAccessible(idField);
+        ReflectionUtils.setField(idField, user, id);
+        user.setNickname("티토" + id);
+        user.setLevel(1);
+        return user;
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.titto_backend.loadtest;
+
+import com.example.titto_backend.auth.jwt.TokenProvider;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// 부하 테스트용 데이터 생성기 (사용자, 질문, 답변, 매칭 글, 리뷰, 메시지)
+// 같은 randomSeed면 같은 데이터가 생성되며, 기존 데이터 뒤에 이어서 추가 (ID는 현재 최댓값 이후)
+// 테이블은 애플리케이션을 한 번 실행해 생성한 뒤 사용 (ddl-auto: update)
+// 실행: ./gradlew seedLoadTestData -Pseed.jdbcUrl=jdbc:mysql://localhost:3306/titto -Pseed.users=1000 ...
+// 결과: loadtest/build/seed.json (k6 시나리오가 읽는 사용자 토큰, ID 범위, 채택 가능한 답변, 검색어)
+public class SeedDataGenerator {
+
+    private static final String DEFAULT_JDBC_URL = "jdbc:h2:file:./build/loadtest/titto;MODE=MySQL;"
+            + "DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;AUTO_SERVER=TRUE";
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_ACCEPTABLE = 5000;
+    private static final long ACCESS_TOKEN_VALIDITY_MS = 7 * 24 * 60 * 60 * 1000L;
+
+    private static final String[] KEYWORDS = {
+            "자료구조", "운영체제", "데이터베이스", "네트워크", "알고리즘",
+            "스프링", "리액트", "캡스톤", "토익", "장학금"
+    };
+    private static final String[] DEPARTMENTS = {
+            "HUMANITIES", "MANAGEMENT", "SOCIETY", "MEDIA_CONTENT", "FUTURE_FUSION", "SOFTWARE"
+    };
+    private static final String[] MATCHING_CATEGORIES = {"STUDY", "MENTOR", "MENTEE", "UHWOOLLEAM"};
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하질문답변학과수업과제시험공부 ";
+
+    // Question.status는 @Enumerated가 없어 ORDINAL로 저장됨 (UNSOLVED=0, SOLVED=1)
+    private static final int QUESTION_UNSOLVED = 0;
+    private static final int QUESTION_SOLVED = 1;
+
+    private final Connection connection;
+    private final Config config;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private long[] userIds;
+    private int[] countQuestion;
+    private int[] countAnswer;
+    private int[] countAccept;
+    private final List<Map<String, Object>> acceptable = new ArrayList<>();
+
+    public SeedDataGenerator(Connection connection, Config config) {
+        this.connection = connection;
+        this.config = config;
+        this.random = new Random(config.randomSeed());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.fromSystemProperties();
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl(), config.user(), config.password())) {
+            connection.setAutoCommit(false);
+            new SeedDataGenerator(connection, config).run();
+        }
+    }
+
+    public void run() throws SQLException, IOException {
+        long start = System.currentTimeMillis();
+
+        long[] questionRange = new long[2];
+        long[] matchingPostRange = new long[2];
+
+        insertUsers();
+        insertQuestionsAndAnswers(questionRange);
+        insertMatchingPostsAndReviews(matchingPostRange);
+        insertMessages();
+        updateUserCounters();
+
+        writeSeedFile(questionRange, matchingPostRange);
+        System.out.printf("seed 완료: users=%d, questions=%d, matchingPosts=%d, messages=%d (%d ms)%n",
+                config.users(), config.questions(), config.matchingPosts(), config.messages(),
+                System.currentTimeMillis() - start);
+    }
+
+    private void insertUsers() throws SQLException {
+        long base = maxId("`user`", "user_id");
+        userIds = new long[config.users()];
+        countQuestion = new int[config.users()];
+        countAnswer = new int[config.users()];
+        countAccept = new int[config.users()];
+
+        String sql = "INSERT INTO `user` (user_id, email, name, nickname, student_no, department, social_id,"
+                + " social_type, profile, total_experience, current_experience, count_question, count_answer,"
+                + " count_accept, level, create_date, update_date)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, 'KAKAO', ?, ?, ?, 0, 0, 0, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < config.users(); i++) {
+                long id = base + i + 1;
+                userIds[i] = id;
+                int experience = random.nextInt(5000);
+                Timestamp createdAt = pastTimestamp(365);
+
+                ps.setLong(1, id);
+                ps.setString(2, email(id));
+                ps.setString(3, "부하" + id);
+                ps.setString(4, "loadtest" + id);
+                ps.setString(5, String.valueOf(202400000 + id));
+                ps.setString(6, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                ps.setString(7, "loadtest-" + id);
+                ps.setString(8, "");
+                ps.setInt(9, experience);
+                ps.setInt(10, experience);
+                ps.setInt(11, 1 + experience / 1000);
+                ps.setTimestamp(12, createdAt);
+                ps.setTimestamp(13, createdAt);
+                addBatch(ps, i);
+            }
+            flush(ps);
+        }
+    }
+
+    // 질문마다 답변 수를 먼저 정해 answer_count와 실제 답변 수를 맞춤
+    // 30%는 첫 답변을 채택한 상태(SOLVED), 나머지는 k6 채택 시나리오에서 사용할 수 있도록 미채택으로 둔다
+    private void insertQuestionsAndAnswers(long[] range) throws SQLException {
+        long questionBase = maxId("question", "question_id");
+        long answerId = maxId("answer", "answer_id");
+        range[0] = questionBase + 1;
+        range[1] = questionBase + config.questions();
+
+        String questionSql = "INSERT INTO question (question_id, author, status, department, question_title,"
+                + " question_content, send_experience, accepted_answer, answer_count, view_count,"
+                + " create_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String answerSql = "INSERT INTO answer (answer_id, question_id, author, answer_content, is_accepted,"
+                + " create_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement questionPs = connection.prepareStatement(questionSql);
+             PreparedStatement answerPs = connection.prepareStatement(answerSql)) {
+            int answerRows = 0;
+            for (int i = 0; i < config.questions(); i++) {
+                long questionId = questionBase + i + 1;
+                int author = random.nextInt(config.users());
+                int answers = random.nextInt(config.answersPerQuestion() * 2 + 1);
+                boolean solved = answers > 0 && random.nextInt(10) < 3;
+                Timestamp createdAt = pastTimestamp(180);
+                countQuestion[author]++;
+
+                questionPs.setLong(1, questionId);
+                questionPs.setLong(2, userIds[author]);
+                questionPs.setInt(3, solved ? QUESTION_SOLVED : QUESTION_UNSOLVED);
+                questionPs.setString(4, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                questionPs.setString(5, title(questionId));
+                questionPs.setString(6, text(200 + random.nextInt(8000)));
+                questionPs.setInt(7, 10 * (1 + random.nextInt(5)));
+                questionPs.setBoolean(8, solved);
+                questionPs.setInt(9, answers);
+                questionPs.setInt(10, random.nextInt(1000));
+                questionPs.setTimestamp(11, createdAt);
+                questionPs.setTimestamp(12, createdAt);
+                addBatch(questionPs, i);
+
+                for (int a = 0; a < answers; a++) {
+                    answerId++;
+                    // 질문 작성자 본인의 답변은 채택할 수 없으므로 다른 사용자로 지정
+                    int answerer = (author + 1 + random.nextInt(config.users() - 1)) % config.users();
+                    boolean accepted = solved && a == 0;
+                    countAnswer[answerer]++;
+                    if (accepted) {
+                        countAccept[answerer]++;
+                    } else if (!solved && a == 0 && acceptable.size() < MAX_ACCEPTABLE) {
+                        acceptable.add(Map.of("user", author, "questionId", questionId, "answerId", answerId));
+                    }
+
+                    answerPs.setLong(1, answerId);
+                    answerPs.setLong(2, questionId);
+                    answerPs.setLong(3, userIds[answerer]);
+                    answerPs.setString(4, text(50 + random.nextInt(2000)));
+                    answerPs.setBoolean(5, accepted);
+                    answerPs.setTimestamp(6, createdAt);
+                    answerPs.setTimestamp(7, createdAt);
+                    answerPs.addBatch();
+                    answerRows++;
+                }
+                // 답변은 FK 때문에 질문 배치가 반영된 뒤에 실행
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    questionPs.executeBatch();
+                    answerPs.executeBatch();
+                    connection.commit();
+                }
+            }
+            questionPs.executeBatch();
+            answerPs.executeBatch();
+            connection.commit();
+            System.out.printf("questions=%d, answers=%d%n", config.questions(), answerRows);
+        }
+    }
+
+    private void insertMatchingPostsAndReviews(long[] range) throws SQLException {
+        long postBase = maxId("matching_post", "matching_post_id");
+        long reviewId = maxId("matching_post_review", "review_id");
+        range[0] = postBase + 1;
+        range[1] = postBase + config.matchingPosts();
+
+        String postSql = "INSERT INTO matching_post (matching_post_id, author, category, status, title, content,"
+                + " view_count, review_count, create_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String reviewSql = "INSERT INTO matching_post_review (review_id, review_author, matching_post_id,"
+                + " review_content, create_date, update_date) VALUES (?, ?, ?, ?, ?, ?)";
+
+        try (PreparedStatement postPs = connection.prepareStatement(postSql);
+             PreparedStatement reviewPs = connection.prepareStatement(reviewSql)) {
+            for (int i = 0; i < config.matchingPosts(); i++) {
+                long postId = postBase + i + 1;
+                int reviews = random.nextInt(config.reviewsPerPost() * 2 + 1);
+                Timestamp createdAt = pastTimestamp(180);
+
+                postPs.setLong(1, postId);
+                postPs.setLong(2, userIds[random.nextInt(config.users())]);
+                postPs.setString(3, MATCHING_CATEGORIES[random.nextInt(MATCHING_CATEGORIES.length)]);
+                postPs.setString(4, random.nextInt(10) < 8 ? "RECRUITING" : "RECRUITMENT_COMPLETED");
+                postPs.setString(5, title(postId));
+                postPs.setString(6, text(200 + random.nextInt(6000)));
+                postPs.setInt(7, random.nextInt(1000));
+                postPs.setInt(8, reviews);
+                postPs.setTimestamp(9, createdAt);
+                postPs.setTimestamp(10, createdAt);
+                addBatch(postPs, i);
+
+                for (int r = 0; r < reviews; r++) {
+                    reviewPs.setLong(1, ++reviewId);
+                    reviewPs.setLong(2, userIds[random.nextInt(config.users())]);
+                    reviewPs.setLong(3, postId);
+                    reviewPs.setString(4, text(20 + random.nextInt(200)));
+                    reviewPs.setTimestamp(5, createdAt);
+                    reviewPs.setTimestamp(6, createdAt);
+                    reviewPs.addBatch();
+                }
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    postPs.executeBatch();
+                    reviewPs.executeBatch();
+                    connection.commit();
+                }
+            }
+            postPs.executeBatch();
+            reviewPs.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private void insertMessages() throws SQLException {
+        long base = maxId("messages", "message_id");
+        String sql = "INSERT INTO messages (message_id, sender_id, receiver_id, content, sent_time, sender_nickname,"
+                + " receiver_nickname, deleted_by_sender, deleted_by_receiver, read_by_receiver,"
+                + " create_date, update_date) VALUES (?, ?, ?, ?, ?, ?, ?, false, false, ?, ?, ?)";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < config.messages(); i++) {
+                int sender = random.nextInt(config.users());
+                int receiver = (sender + 1 + random.nextInt(config.users() - 1)) % config.users();
+                Timestamp sentAt = pastTimestamp(90);
+
+                ps.setLong(1, base + i + 1);
+                ps.setLong(2, userIds[sender]);
+                ps.setLong(3, userIds[receiver]);
+                ps.setString(4, text(10 + random.nextInt(300)));
+                ps.setTimestamp(5, sentAt);
+                ps.setString(6, "loadtest" + userIds[sender]);
+                ps.setString(7, "loadtest" + userIds[receiver]);
+                ps.setBoolean(8, random.nextInt(10) < 7);
+                ps.setTimestamp(9, sentAt);
+                ps.setTimestamp(10, sentAt);
+                addBatch(ps, i);
+            }
+            flush(ps);
+        }
+    }
+
+    private void updateUserCounters() throws SQLException {
+        String sql = "UPDATE `user` SET count_question = ?, count_answer = ?, count_accept = ? WHERE user_id = ?";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (int i = 0; i < config.users(); i++) {
+                ps.setInt(1, countQuestion[i]);
+                ps.setInt(2, countAnswer[i]);
+                ps.setInt(3, countAccept[i]);
+                ps.setLong(4, userIds[i]);
+                addBatch(ps, i);
+            }
+            flush(ps);
+        }
+    }
+
+    // JWT_SECRET이 있으면 사용자마다 액세스 토큰을 발급해 함께 기록 (없으면 토큰 없이 기록)
+    private void writeSeedFile(long[] questionRange, long[] matchingPostRange) throws IOException {
+        TokenProvider tokenProvider = config.jwtSecret() == null ? null
+                : new TokenProvider(config.jwtSecret(), ACCESS_TOKEN_VALIDITY_MS, ACCESS_TOKEN_VALIDITY_MS);
+        if (tokenProvider == null) {
+            System.out.println("JWT_SECRET이 없어 토큰 없이 seed 파일을 기록합니다.");
+        }
+
+        List<Map<String, Object>> users = new ArrayList<>();
+        for (long id : userIds) {
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("userId", id);
+            user.put("email", email(id));
+            user.put("nickname", "loadtest" + id);
+            user.put("token", tokenProvider == null ? null : tokenProvider.createAccessToken(email(id)));
+            users.add(user);
+        }
+
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("randomSeed", config.randomSeed());
+        seed.put("users", users);
+        seed.put("questionIds", questionRange);
+        seed.put("matchingPostIds", matchingPostRange);
+        seed.put("acceptable", acceptable);
+        seed.put("keywords", KEYWORDS);
+
+        File output = new File(config.outputFile());
+        output.getParentFile().mkdirs();
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, seed);
+        System.out.println("seed 파일: " + output.getAbsolutePath());
+    }
+
+    private long maxId(String table, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void addBatch(PreparedStatement ps, int index) throws SQLException {
+        ps.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0) {
+            flush(ps);
+        }
+    }
+
+    private void flush(PreparedStatement ps) throws SQLException {
+        ps.executeBatch();
+        connection.commit();
+    }
+
+    private Timestamp pastTimestamp(int maxDaysAgo) {
+        return Timestamp.valueOf(now.minusMinutes(random.nextInt(maxDaysAgo * 24 * 60)));
+    }
+
+    private String title(long id) {
+        return KEYWORDS[random.nextInt(KEYWORDS.length)] + " 관련 글 " + id;
+    }
+
+    private String text(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String email(long userId) {
+        return "loadtest" + userId + "@office.skhu.ac.kr";
+    }
+
+    public record Config(String jdbcUrl, String user, String password, int users, int questions,
+                         int answersPerQuestion, int matchingPosts, int reviewsPerPost, int messages,
+                         long randomSeed, String jwtSecret, String outputFile) {
+
+        static Config fromSystemProperties() {
+            return new Config(
+                    System.getProperty("seed.jdbcUrl", DEFAULT_JDBC_URL),
+                    System.getProperty("seed.user", "sa"),
+                    System.getProperty("seed.password", ""),
+                    Integer.getInteger("seed.users", 1000),
+                    Integer.getInteger("seed.questions", 5000),
+                    Integer.getInteger("seed.answersPerQuestion", 3),
+                    Integer.getInteger("seed.matchingPosts", 2000),
+                    Integer.getInteger("seed.reviewsPerPost", 2),
+                    Integer.getInteger("seed.messages", 20000),
+                    Long.getLong("seed.randomSeed", 42L),
+                    System.getProperty("seed.jwtSecret", System.getenv("JWT_SECRET")),
+                    System.getProperty("seed.output", "loadtest/build/seed.json"));
+        }
+    }
+}
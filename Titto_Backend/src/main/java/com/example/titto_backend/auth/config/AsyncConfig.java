@@ -0,0 +1,41 @@
+package com.example.titto_backend.auth.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // outbox 이벤트 처리 전용 워커 풀
+    // 가상 스레드 모드에서는 요청마다 가상 스레드를 만들고 동시 실행 수만 제한 (한도 도달 시 제출 스레드가 대기)
+    // 플랫폼 스레드 모드에서는 큐가 가득 차면 스케줄러 스레드가 직접 처리하여 자연스럽게 속도 조절
+    @Bean(name = "outboxExecutor")
+    public Executor outboxExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                   @Value("${outbox.worker.core-size:4}") int coreSize,
+                                   @Value("${outbox.worker.max-size:8}") int maxSize,
+                                   @Value("${outbox.worker.queue-capacity:200}") int queueCapacity) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("outbox-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxSize);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.titto_backend.auth.config;
+
+import com.example.titto_backend.common.util.CacheUtil;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // 서버별 로컬 캐시이므로 다른 서버의 쓰기는 TTL 이내로만 반영됨 -> TTL을 짧게 유지
+    // recordStats()로 cache.gets{result=hit|miss} 등 메트릭 기록
+    // 트랜잭션 안에서의 evict/put은 커밋 이후에 반영 (커밋 전 다른 요청이 이전 값을 다시 적재하는 것 방지)
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.user-profile.ttl-seconds:60}") long userProfileTtl,
+                                     @Value("${cache.user-profile.max-size:10000}") long userProfileMaxSize,
+                                     @Value("${cache.question-detail.ttl-seconds:30}") long questionDetailTtl,
+                                     @Value("${cache.question-detail.max-size:5000}") long questionDetailMaxSize,
+                                     @Value("${cache.matching-post-detail.ttl-seconds:30}") long matchingPostDetailTtl,
+                                     @Value("${cache.matching-post-detail.max-size:5000}") long matchingPostDetailMaxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CacheUtil.USER_PROFILE, spec(userProfileTtl, userProfileMaxSize));
+        cacheManager.registerCustomCache(CacheUtil.QUESTION_DETAIL, spec(questionDetailTtl, questionDetailMaxSize));
+        cacheManager.registerCustomCache(CacheUtil.MATCHING_POST_DETAIL,
+                spec(matchingPostDetailTtl, matchingPostDetailMaxSize));
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> spec(long ttlSeconds, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+}
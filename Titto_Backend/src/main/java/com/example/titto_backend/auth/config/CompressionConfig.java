@@ -0,0 +1,35 @@
+package com.example.titto_backend.auth.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+// 응답 압축 (application.yml의 server 키가 배포 URL 문자열이라 server.compression 대신 직접 설정)
+// 임계값보다 작은 JSON은 압축 비용이 이득보다 커서 그대로 전송
+@Configuration
+public class CompressionConfig {
+
+    @Value("${http.compression.enabled:true}")
+    private boolean enabled;
+
+    @Value("${http.compression.mime-types:application/json}")
+    private String[] mimeTypes;
+
+    @Value("${http.compression.min-response-size-bytes:2048}")
+    private long minResponseSizeBytes;
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer() {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(enabled);
+            compression.setMimeTypes(mimeTypes);
+            compression.setMinResponseSize(DataSize.ofBytes(minResponseSizeBytes));
+            factory.setCompression(compression);
+        };
+    }
+}
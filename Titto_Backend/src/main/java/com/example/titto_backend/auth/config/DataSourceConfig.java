@@ -0,0 +1,50 @@
+package com.example.titto_backend.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// 읽기/쓰기 데이터소스 분리 (titto.datasource.replica.enabled=true 일 때만, 기본은 단일 프라이머리)
+// 프라이머리: spring.datasource.*, spring.datasource.hikari.* / 레플리카: titto.datasource.replica.*
+// 복제 지연이 있으므로 쓰기 직후 다시 읽어야 하는 로직은 readOnly 트랜잭션으로 분리하지 않는다
+// (readOnly 트랜잭션이어야 하는 조회는 ReplicationRoutingDataSource.readFromPrimary로 프라이머리 지정)
+@Configuration
+@ConditionalOnProperty(name = "titto.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("titto.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${titto.datasource.replica.url}") String url,
+                                              @Value("${titto.datasource.replica.username}") String username,
+                                              @Value("${titto.datasource.replica.password}") String password) {
+        return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.titto_backend.auth.config;
+
+import com.example.titto_backend.auth.service.OAuthHttpClient;
+import com.example.titto_backend.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+
+@Configuration
+public class OAuthClientConfig {
+
+    // 카카오/네이버 호출이 함께 사용하는 커넥션 풀 (keep-alive 재사용)
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager oauthConnectionManager(
+            @Value("${oauth.client.max-total:100}") int maxTotal,
+            @Value("${oauth.client.max-per-route:50}") int maxPerRoute) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public OAuthHttpClient kakaoOAuthClient(RestTemplateBuilder restTemplateBuilder,
+                                            PoolingHttpClientConnectionManager oauthConnectionManager,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${oauth.kakao.connect-timeout-ms:1000}") long connectTimeout,
+                                            @Value("${oauth.kakao.read-timeout-ms:3000}") long readTimeout) {
+        return createClient("kakao", restTemplateBuilder, oauthConnectionManager, meterRegistry,
+                Duration.ofMillis(connectTimeout), Duration.ofMillis(readTimeout), ErrorCode.INVALID_KAKAO_VALUE);
+    }
+
+    @Bean
+    public OAuthHttpClient naverOAuthClient(RestTemplateBuilder restTemplateBuilder,
+                                            PoolingHttpClientConnectionManager oauthConnectionManager,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${oauth.naver.connect-timeout-ms:1000}") long connectTimeout,
+                                            @Value("${oauth.naver.read-timeout-ms:3000}") long readTimeout) {
+        return createClient("naver", restTemplateBuilder, oauthConnectionManager, meterRegistry,
+                Duration.ofMillis(connectTimeout), Duration.ofMillis(readTimeout), ErrorCode.INVALID_NAVER_VALUE);
+    }
+
+    public static OAuthHttpClient createClient(String provider,
+                                               RestTemplateBuilder restTemplateBuilder,
+                                               PoolingHttpClientConnectionManager connectionManager,
+                                               MeterRegistry meterRegistry,
+                                               Duration connectTimeout,
+                                               Duration readTimeout,
+                                               ErrorCode invalidRequestError) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .build())
+                .build();
+
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        requestFactory.setConnectTimeout(connectTimeout);
+
+        // RestTemplateBuilder로 생성해야 http.client.requests 메트릭이 자동으로 기록됨
+        return new OAuthHttpClient(
+                provider,
+                restTemplateBuilder.requestFactory(() -> requestFactory).build(),
+                CircuitBreaker.of(provider, circuitBreakerConfig(readTimeout)),
+                meterRegistry,
+                invalidRequestError);
+    }
+
+    // 최근 20건 중 50% 이상 실패(또는 타임아웃에 근접한 지연)하면 30초간 호출 차단
+    private static CircuitBreakerConfig circuitBreakerConfig(Duration readTimeout) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(readTimeout.multipliedBy(8).dividedBy(10))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .ignoreExceptions(HttpClientErrorException.class)
+                .build();
+    }
+}
@@ -1,14 +1,28 @@
 package com.example.titto_backend.auth.config;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @RequiredArgsConstructor
@@ -17,17 +31,117 @@ public class RedisConfig {
 
     private final RedisProperties redisProperties;
 
+    @Value("${redis.client.command-timeout-ms:500}")
+    private long commandTimeoutMs;
+
+    @Value("${redis.client.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${redis.client.shutdown-timeout-ms:100}")
+    private long shutdownTimeoutMs;
+
+    @Value("${redis.client.io-threads:4}")
+    private int ioThreads;
+
+    // 풀링은 블로킹 명령/트랜잭션(MULTI)을 쓸 때만 필요, 기본은 단일 공유 커넥션
+    @Value("${redis.client.pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${redis.client.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${redis.client.pool.max-idle:8}")
+    private int poolMaxIdle;
+
+    @Value("${redis.client.pool.min-idle:2}")
+    private int poolMinIdle;
+
+    @Value("${redis.client.pool.max-wait-ms:200}")
+    private long poolMaxWaitMs;
+
+    @Value("${redis.circuit-breaker.slow-call-threshold-ms:200}")
+    private long slowCallThresholdMs;
+
+    @Value("${redis.circuit-breaker.wait-in-open-ms:10000}")
+    private long waitInOpenMs;
+
+    // 커스터마이저(Micrometer 명령 지연 메트릭 등)를 그대로 적용
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(ObjectProvider<ClientResourcesBuilderCustomizer> customizers) {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder()
+                .ioThreadPoolSize(ioThreads)
+                .computationThreadPoolSize(ioThreads);
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder.build();
+    }
+
+    @Bean
+    public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+        RedisStandaloneConfiguration serverConfig =
+                new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        return new LettuceConnectionFactory(serverConfig, clientConfiguration(lettuceClientResources));
+    }
+
+    // 캐시 무효화 등 서버 간 알림 수신
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
     }
 
+    // 최근 50건 중 절반 이상이 실패/지연되면 일정 시간 Redis 호출을 차단하고 호출부의 폴백으로 처리
     @Bean
-    public RedisTemplate<String, Object> redisTemplate() {
-        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
-        return redisTemplate;
+    public CircuitBreaker redisCircuitBreaker() {
+        return CircuitBreaker.of("redis", CircuitBreakerConfig.custom()
+                .slidingWindowSize(50)
+                .minimumNumberOfCalls(20)
+                .failureRateThreshold(50)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallThresholdMs))
+                .slowCallRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenMs))
+                .permittedNumberOfCallsInHalfOpenState(5)
+                .build());
+    }
+
+    private LettuceClientConfiguration clientConfiguration(ClientResources clientResources) {
+        Duration commandTimeout = Duration.ofMillis(commandTimeoutMs);
+
+        // 연결이 끊긴 동안 명령을 쌓아두지 않고 즉시 실패 -> 요청 스레드가 타임아웃까지 묶이지 않음
+        ClientOptions clientOptions = ClientOptions.builder()
+                .autoReconnect(true)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build();
+
+        if (poolEnabled) {
+            return LettucePoolingClientConfiguration.builder()
+                    .poolConfig(poolConfig())
+                    .clientResources(clientResources)
+                    .clientOptions(clientOptions)
+                    .commandTimeout(commandTimeout)
+                    .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMs))
+                    .build();
+        }
+
+        return LettuceClientConfiguration.builder()
+                .clientResources(clientResources)
+                .clientOptions(clientOptions)
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(Duration.ofMillis(shutdownTimeoutMs))
+                .build();
+    }
+
+    private GenericObjectPoolConfig<?> poolConfig() {
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMs));
+        return poolConfig;
     }
 }
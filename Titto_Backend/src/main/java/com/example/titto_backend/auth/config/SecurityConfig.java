@@ -2,17 +2,24 @@ package com.example.titto_backend.auth.config;
 
 import com.example.titto_backend.auth.jwt.JwtFilter;
 import com.example.titto_backend.auth.jwt.TokenProvider;
+import com.example.titto_backend.auth.service.TokenBlacklistService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -29,10 +36,49 @@ public class SecurityConfig {
             "/v3/api-docs/**", "/api-docs/**", "/swagger-ui.html", "/oauth/**"
     };
 
+    private static final String ACTUATOR_ROLE = "ACTUATOR";
+
     private final TokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+
+    // actuator는 외부에 열지 않는 관리 포트(management.server.port)로만 노출하고 API 체인과 분리
+    // 인증 없이 허용하는 것은 헬스 체크와 Prometheus 스크랩뿐
+    // 나머지(loggers 등)는 운영자 계정(HTTP Basic)으로만 허용, 계정이 설정되지 않으면 모두 거부
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   @Value("${management.admin.username:}") String username,
+                                                   @Value("${management.admin.password:}") String password)
+            throws Exception {
+        boolean adminEnabled = StringUtils.hasText(username) && StringUtils.hasText(password);
+        if (adminEnabled) {
+            // 비밀번호는 {bcrypt} 등 인코딩 접두사가 붙은 값으로 설정
+            http.userDetailsService(new InMemoryUserDetailsManager(
+                    User.withUsername(username).password(password).roles(ACTUATOR_ROLE).build()));
+        }
+        return http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .httpBasic(Customizer.withDefaults())
+                .sessionManagement((sessionManagement) ->
+                        sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests((authorizeHttpRequests) -> {
+                    authorizeHttpRequests
+                            .requestMatchers(EndpointRequest.to("health", "prometheus"))
+                            .permitAll();
+                    if (adminEnabled) {
+                        authorizeHttpRequests.anyRequest().hasRole(ACTUATOR_ROLE);
+                    } else {
+                        authorizeHttpRequests.anyRequest().denyAll();
+                    }
+                })
+                .build();
+    }
 
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         return http
                 .httpBasic(AbstractHttpConfigurer::disable)
@@ -48,7 +94,7 @@ public class SecurityConfig {
                                 .anyRequest().authenticated()
                 )
                 .cors((cors) -> cors.configurationSource(configurationSource()))
-                .addFilterBefore(new JwtFilter(tokenProvider, redisTemplate),
+                .addFilterBefore(new JwtFilter(tokenProvider, tokenBlacklistService),
                         UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
@@ -85,15 +85,14 @@ public class OAuthController {
     @PostMapping("/refresh")
     @Operation(
             summary = "리프레시",
-            description = "리프레시 토큰을 통해 엑세스 토큰 유효 기간 초기화",
+            description = "리프레시 토큰으로 엑세스 토큰을 재발급합니다 (리프레시 토큰도 새로 발급되며 기존 토큰은 폐기)",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "400", description = "리프레시 토큰 만료"),
                     @ApiResponse(responseCode = "403", description = "인증 오류 (토큰)")
             })
-    public ResponseEntity<TokenDTO.ServiceToken> refresh(HttpServletRequest request,
-                                                         @RequestBody TokenDTO.ServiceToken dto) {
-        TokenDTO.ServiceToken serviceToken = tokenService.refresh(request, dto);
+    public ResponseEntity<TokenDTO.ServiceToken> refresh(@RequestBody TokenDTO.ServiceToken dto) {
+        TokenDTO.ServiceToken serviceToken = tokenService.refresh(dto);
         return ResponseEntity.ok(serviceToken);
     }
 
@@ -112,4 +111,18 @@ public class OAuthController {
         return ResponseEntity.ok("로그아웃 완료");
     }
 
+    @PostMapping("/logout-all")
+    @Operation(
+            summary = "모든 기기에서 로그아웃",
+            description = "액세스 토큰 블랙리스트에 저장 및 사용자의 모든 리프레시 토큰 제거",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "401", description = "인증 토큰이 유효하지 않음"),
+                    @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
+            })
+    public ResponseEntity<String> logoutAll(HttpServletRequest request, Principal principal) {
+        tokenService.logoutAll(request, principal);
+        return ResponseEntity.ok("모든 기기에서 로그아웃 완료");
+    }
+
 }
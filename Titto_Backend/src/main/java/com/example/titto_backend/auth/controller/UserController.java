@@ -3,10 +3,12 @@ package com.example.titto_backend.auth.controller;
 import com.example.titto_backend.auth.dto.request.SignUpDTO;
 import com.example.titto_backend.auth.dto.request.UserInfoUpdateDTO;
 import com.example.titto_backend.auth.dto.request.UserProfileUpdateDTO;
+import com.example.titto_backend.auth.dto.response.UserActivityPageDto;
 import com.example.titto_backend.auth.dto.response.UserInfoDTO;
 import com.example.titto_backend.auth.dto.response.UserProfileViewDto;
 import com.example.titto_backend.auth.dto.response.UserRankingDto;
 import com.example.titto_backend.auth.service.ExperienceService;
+import com.example.titto_backend.auth.service.UserActivityService;
 import com.example.titto_backend.auth.service.UserService;
 import com.example.titto_backend.questionBoard.dto.AnswerInfoDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +39,7 @@ public class UserController {
 
     private final UserService userService;
     private final ExperienceService experienceService;
+    private final UserActivityService userActivityService;
 
     @PutMapping("/signup")
     @PreAuthorize("isAuthenticated()")
@@ -195,6 +198,24 @@ public class UserController {
         return new ResponseEntity<>(userAnswers, HttpStatus.OK);
     }
 
+    @GetMapping("/activity/{userId}")
+    @Operation(
+            summary = "사용자 활동 피드",
+            description = "사용자가 작성한 질문, 매칭 게시글, 답변, 리뷰를 최신순으로 페이지 단위로 볼 수 있습니다. "
+                    + "다음 페이지는 응답의 nextCursor를 cursor로 전달합니다",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+                    @ApiResponse(responseCode = "404", description = "사용자 없음"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<UserActivityPageDto> getUserActivities(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + UserActivityService.DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(userActivityService.findActivities(userId, cursor, size));
+    }
+
     // Delete
     @DeleteMapping("/{userId}")
     @PreAuthorize("isAuthenticated()")
@@ -0,0 +1,6 @@
+package com.example.titto_backend.auth.domain;
+
+// 활동 피드 항목 종류 (user_activity 테이블의 문자열 정렬과 같도록 이름순으로 선언)
+public enum ActivityType {
+    ANSWER, MATCHING_POST, QUESTION, REVIEW
+}
@@ -19,7 +19,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
@@ -27,9 +29,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@Table(name = "user", indexes = @Index(name = "idx_user_social", columnList = "social_type, social_id"))
 @Getter
+@DynamicUpdate
 @AllArgsConstructor
 @NoArgsConstructor
 public class User extends BaseEntity {
@@ -0,0 +1,94 @@
+package com.example.titto_backend.auth.domain;
+
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.questionBoard.domain.Department;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프로필 화면용 비정규화 활동 테이블 (도메인 이벤트로 갱신, UserActivityEventHandler 참고)
+// 조회수/답변 수처럼 자주 바뀌는 값은 저장하지 않고 원본 테이블에서 읽음
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_activity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_activity_ref", columnNames = {"activity_type", "ref_id"}),
+        indexes = {
+                @Index(name = "idx_user_activity_feed", columnList = "user_id, created_at, activity_type, ref_id"),
+                @Index(name = "idx_user_activity_post", columnList = "post_id")
+        })
+public class UserActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "user_activity_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false, length = 20)
+    private ActivityType activityType;
+
+    // 질문/매칭 게시글/답변/리뷰 ID
+    @Column(name = "ref_id", nullable = false)
+    private Long refId;
+
+    // 이동할 게시글 ID (답변은 질문, 리뷰는 매칭 게시글)
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 게시글 제목 (답변과 리뷰는 원글 제목)
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "content", length = ContentPreview.LENGTH)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "department")
+    private Department department;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category")
+    private Category category;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public UserActivity(Long userId, ActivityType activityType, Long refId, Long postId, String title, String content,
+                        Department department, Category category, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.activityType = activityType;
+        this.refId = refId;
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+        this.department = department;
+        this.category = category;
+        this.createdAt = createdAt;
+    }
+
+    public void refresh(UserActivity source) {
+        this.userId = source.getUserId();
+        this.title = source.getTitle();
+        this.content = source.getContent();
+        this.department = source.getDepartment();
+        this.category = source.getCategory();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.titto_backend.auth.dto.response;
+
+import com.example.titto_backend.auth.domain.ActivityType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "사용자 활동 피드 항목")
+public class UserActivityDto {
+
+    @Schema(description = "활동 종류")
+    private ActivityType type;
+
+    @Schema(description = "질문/게시글/답변/리뷰 ID")
+    private Long id;
+
+    @Schema(description = "제목 (답변과 리뷰는 원글 제목)")
+    private String title;
+
+    @Schema(description = "내용 미리보기")
+    private String content;
+
+    @Schema(description = "이동할 게시글 ID (질문 또는 매칭 게시글)")
+    private Long postId;
+
+    @Schema(description = "작성일")
+    private LocalDateTime createdDate;
+
+    // 종류별 테이블 조회는 종류를 문자열 리터럴로 전달
+    public UserActivityDto(String type, Long id, String title, String content, Long postId,
+                           LocalDateTime createdDate) {
+        this(ActivityType.valueOf(type), id, title, content, postId, createdDate);
+    }
+
+    public UserActivityDto(ActivityType type, Long id, String title, String content, Long postId,
+                           LocalDateTime createdDate) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.postId = postId;
+        this.createdDate = createdDate;
+    }
+}
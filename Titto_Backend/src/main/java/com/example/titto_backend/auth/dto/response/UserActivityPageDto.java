@@ -0,0 +1,23 @@
+package com.example.titto_backend.auth.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "사용자 활동 피드 페이지")
+public class UserActivityPageDto {
+
+    @Schema(description = "최신순 활동 목록")
+    private List<UserActivityDto> activities;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+}
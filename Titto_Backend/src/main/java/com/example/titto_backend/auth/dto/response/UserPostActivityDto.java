@@ -0,0 +1,35 @@
+package com.example.titto_backend.auth.dto.response;
+
+import com.example.titto_backend.auth.domain.ActivityType;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostInfoDto;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.dto.QuestionInfoDTO;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// user_activity 작성 글 조회 결과 (종류에 따라 기존 작성 글 응답 형식으로 변환)
+@Getter
+@AllArgsConstructor
+public class UserPostActivityDto {
+
+    private ActivityType type;
+    private Long id;
+    private String title;
+    private String content;
+    private LocalDateTime createdDate;
+    private Department department;
+    private Category category;
+    private Integer questionViewCount;
+    private Integer answerCount;
+    private Integer matchingPostViewCount;
+    private Integer reviewCount;
+
+    public Object toInfo() {
+        if (type == ActivityType.QUESTION) {
+            return new QuestionInfoDTO(id, title, content, createdDate, questionViewCount, answerCount, department);
+        }
+        return new MatchingPostInfoDto(id, title, content, createdDate, matchingPostViewCount, reviewCount, category);
+    }
+}
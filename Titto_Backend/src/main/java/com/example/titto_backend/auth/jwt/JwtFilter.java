@@ -1,5 +1,7 @@
 package com.example.titto_backend.auth.jwt;
 
+import com.example.titto_backend.auth.service.TokenBlacklistService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
@@ -7,10 +9,8 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
@@ -18,7 +18,7 @@ import org.springframework.web.filter.GenericFilterBean;
 public class JwtFilter extends GenericFilterBean {
 
     private final TokenProvider tokenProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -30,14 +30,13 @@ public class JwtFilter extends GenericFilterBean {
         if (((HttpServletRequest) request).getRequestURI().equals("/oauth/refresh")) {
             chain.doFilter(request, response);
         } else {
-            // 토큰이 비어있지 않으면서 유효한 경우
-            if (StringUtils.hasText(token) && tokenProvider.validateToken(token)) {
+            // 토큰이 비어있지 않으면서 유효한 경우 (서명 검증과 claims 추출은 요청당 한 번만 수행)
+            Claims claims = StringUtils.hasText(token) ? tokenProvider.parseValidClaims(token) : null;
+            if (claims != null) {
                 // Redis에 해당 AccessToken logout 여부를 확인
-                String isLogout = (String) redisTemplate.opsForValue().get(token);
-
-                if (ObjectUtils.isEmpty(isLogout)) {
-                    // 조건에 만족하면 토큰으로부터 유저 정보를 Authentication 객체에 저장
-                    Authentication authentication = tokenProvider.getAuthentication(token);
+                if (!tokenBlacklistService.isBlacklisted(token, claims)) {
+                    // 조건에 만족하면 claims로부터 유저 정보를 Authentication 객체에 저장
+                    Authentication authentication = tokenProvider.getAuthentication(claims);
 
                     // SecurityContext에 Authentication 객체를 저장 (인증 정보(authentication)를 Spring Security에게 넘김)
                     SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -18,6 +18,7 @@ import org.springframework.util.StringUtils;
 
 
 import java.security.Key;
+import java.security.SecureRandom;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -25,6 +26,8 @@ import java.util.stream.Collectors;
 @Component
 public class TokenProvider {
 
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final Key key;
     private final long accessTokenValidityTime;
     private final long refreshTokenValidityTime;
@@ -39,60 +42,49 @@ public class TokenProvider {
     }
 
     public TokenDTO.ServiceToken createToken(String email) {
+        return TokenDTO.ServiceToken.builder()
+                .accessToken(createAccessToken(email))
+                .refreshToken(createRefreshToken())
+                .build();
+    }
 
-        long now = (new Date()).getTime();
-
-        Date tokenExpiredTime = new Date(now + accessTokenValidityTime);
+    public String createAccessToken(String email) {
+        Date tokenExpiredTime = new Date(System.currentTimeMillis() + accessTokenValidityTime);
 
-        String accessToken = Jwts.builder()
+        return Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(email)
                 .claim("auth", "ROLE_USER")
                 .setExpiration(tokenExpiredTime)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
-
-        tokenExpiredTime = new Date(now + refreshTokenValidityTime);
-
-        String refreshToken = Jwts.builder()
-                .setExpiration(tokenExpiredTime)
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
-
-        return TokenDTO.ServiceToken.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
     }
 
-    public TokenDTO.ServiceToken createAccessTokenByRefreshToken(HttpServletRequest request, String refreshToken) {
-        String[] chunks = resolveToken(request).split("\\.");
-
-        Base64.Decoder decoder = Base64.getUrlDecoder();
-        String payload = new String(decoder.decode(chunks[1]));
-        String name = payload.split("\"")[3];
-
-        long now = (new Date()).getTime();
+    // 리프레시 토큰은 사용자 정보를 담지 않고 저장소(RefreshTokenStore)에서 사용자와 연결
+    // jti로 같은 시각에 발급된 토큰끼리도 구분되도록 함
+    public String createRefreshToken() {
+        Date tokenExpiredTime = new Date(System.currentTimeMillis() + refreshTokenValidityTime);
 
-        Date tokenExpiredTime = new Date(now + accessTokenValidityTime);
-
-        // AccessToken 생성
-        String accessToken = Jwts.builder()
-                .setSubject(name)
-                .claim("auth", "ROLE_USER")
+        return Jwts.builder()
+                .setId(newTokenId())
                 .setExpiration(tokenExpiredTime)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
+    }
 
-        return TokenDTO.ServiceToken.builder()
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+    // 토큰 식별자(jti): 128비트 난수를 base64url로 인코딩한 22자 문자열 (블랙리스트 키로 사용)
+    private String newTokenId() {
+        byte[] bytes = new byte[16];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
     }
 
     public Authentication getAuthentication(String accessToken) {
-        // AccessToken <- Claims 추출
-        Claims claims = parseClaims(accessToken);
+        return getAuthentication(parseClaims(accessToken));
+    }
 
+    // 필터에서 이미 검증한 claims로 인증 객체 생성 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(Claims claims) {
         // 권한 정보가 담겨있지 않은 토큰을 받았을 경우
         if (claims.get("auth") == null) {
             throw new IllegalArgumentException("권한 정보가 없는 토큰입니다.");
@@ -116,10 +108,11 @@ public class TokenProvider {
         return null;
     }
 
-    public boolean validateToken(String token) {
+    // 서명과 만료를 검증한 claims, 유효하지 않으면 null
+    // 요청마다 한 번만 파싱하고 jti(getId), 권한 정보는 이 claims에서 꺼내 씀
+    public Claims parseValidClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT Token", e);
         } catch (ExpiredJwtException e) { // accessToken 만료된 경우 refreshToken 검증
@@ -129,10 +122,11 @@ public class TokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT claims string is empty.", e);
         }
-        return false;
+        return null;
     }
 
-    private Claims parseClaims(String accessToken) {
+    // 서명만 검증하고 만료된 토큰도 claims 반환 (jti가 없는 토큰(jti 도입 이전 발급)은 getId()가 null)
+    public Claims parseClaims(String accessToken) {
         try {
             return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) { // 기한 만료된 토큰
@@ -146,4 +140,9 @@ public class TokenProvider {
         Long now = new Date().getTime();
         return (expiration.getTime() - now);
     }
+
+    // 이미 파싱한 claims의 남은 유효 시간 (만료되었으면 0 이하)
+    public long getExpiration(Claims claims) {
+        return claims.getExpiration().getTime() - new Date().getTime();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.example.titto_backend.auth.repository;
+
+import com.example.titto_backend.auth.domain.ActivityType;
+import com.example.titto_backend.auth.domain.UserActivity;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.auth.dto.response.UserPostActivityDto;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.dto.AnswerInfoDTO;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface UserActivityRepository extends JpaRepository<UserActivity, Long> {
+
+    Optional<UserActivity> findByActivityTypeAndRefId(ActivityType activityType, Long refId);
+
+    // 활동 피드 (user_id, created_at, activity_type, ref_id 인덱스 한 번의 역방향 범위 스캔)
+    @Query("SELECT new com.example.titto_backend.auth.dto.response.UserActivityDto("
+            + "a.activityType, a.refId, a.title, a.content, a.postId, a.createdAt) "
+            + "FROM UserActivity a"
+            + " WHERE a.userId = :userId"
+            + " AND (a.createdAt < :cursorDate OR (a.createdAt = :cursorDate"
+            + " AND (a.activityType < :cursorType OR (a.activityType = :cursorType AND a.refId < :cursorId))))"
+            + " ORDER BY a.createdAt DESC, a.activityType DESC, a.refId DESC")
+    List<UserActivityDto> findFeed(@Param("userId") Long userId,
+                                   @Param("cursorDate") LocalDateTime cursorDate,
+                                   @Param("cursorType") ActivityType cursorType,
+                                   @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 작성 글 목록 (조회수, 답변/댓글 수는 원본 게시글에서 기본 키로 조회)
+    @Query("SELECT new com.example.titto_backend.auth.dto.response.UserPostActivityDto("
+            + "a.activityType, a.refId, a.title, a.content, a.createdAt, a.department, a.category,"
+            + " q.viewCount, q.answerCount, m.viewCount, m.reviewCount) "
+            + "FROM UserActivity a"
+            + " LEFT JOIN Question q ON a.activityType = :questionType AND q.id = a.refId"
+            + " LEFT JOIN MatchingPost m ON a.activityType = :matchingPostType AND m.matchingPostId = a.refId"
+            + " WHERE a.userId = :userId AND a.activityType IN (:questionType, :matchingPostType)"
+            + " ORDER BY a.createdAt DESC")
+    List<UserPostActivityDto> findPosts(@Param("userId") Long userId,
+                                        @Param("questionType") ActivityType questionType,
+                                        @Param("matchingPostType") ActivityType matchingPostType);
+
+    @Query("SELECT new com.example.titto_backend.questionBoard.dto.AnswerInfoDTO("
+            + "a.refId, a.content, a.postId, a.title, a.department) "
+            + "FROM UserActivity a"
+            + " WHERE a.userId = :userId AND a.activityType = :answerType"
+            + " ORDER BY a.createdAt DESC")
+    List<AnswerInfoDTO> findAnswers(@Param("userId") Long userId, @Param("answerType") ActivityType answerType);
+
+    @Modifying
+    @Query("DELETE FROM UserActivity a WHERE a.activityType = :type AND a.refId = :refId")
+    int deleteByRef(@Param("type") ActivityType type, @Param("refId") Long refId);
+
+    // 게시글 삭제 시 게시글과 그 답변/리뷰 행을 함께 삭제
+    @Modifying
+    @Query("DELETE FROM UserActivity a WHERE a.activityType IN :types AND a.postId = :postId")
+    int deleteByPost(@Param("types") Collection<ActivityType> types, @Param("postId") Long postId);
+
+    // 게시글 제목/분류가 바뀌면 그 게시글에 달린 답변/리뷰 행에도 반영
+    @Modifying
+    @Query("UPDATE UserActivity a SET a.title = :title, a.department = :department, a.category = :category"
+            + " WHERE a.activityType = :type AND a.postId = :postId")
+    int refreshPost(@Param("type") ActivityType type, @Param("postId") Long postId, @Param("title") String title,
+                    @Param("department") Department department, @Param("category") Category category);
+
+    // 회원 탈퇴 시 작성 글이 dummyUser로 넘어가므로 활동 행도 함께 이전
+    @Modifying
+    @Query("UPDATE UserActivity a SET a.userId = :toUserId WHERE a.userId = :fromUserId")
+    int reassignUser(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    // 기존 데이터 백필 (이미 있는 행은 uk_user_activity_ref로 건너뜀, MySQL 전용)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_activity"
+            + " (user_id, activity_type, ref_id, post_id, title, content, department, category, created_at)"
+            + " SELECT q.author, 'QUESTION', q.question_id, q.question_id, q.question_title,"
+            + " SUBSTRING(q.question_content, 1, :length), q.department, NULL, q.create_date"
+            + " FROM question q WHERE q.author IS NOT NULL", nativeQuery = true)
+    int backfillQuestions(@Param("length") int length);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_activity"
+            + " (user_id, activity_type, ref_id, post_id, title, content, department, category, created_at)"
+            + " SELECT a.author, 'ANSWER', a.answer_id, q.question_id, q.question_title,"
+            + " SUBSTRING(a.answer_content, 1, :length), q.department, NULL, a.create_date"
+            + " FROM answer a JOIN question q ON q.question_id = a.question_id"
+            + " WHERE a.author IS NOT NULL", nativeQuery = true)
+    int backfillAnswers(@Param("length") int length);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_activity"
+            + " (user_id, activity_type, ref_id, post_id, title, content, department, category, created_at)"
+            + " SELECT m.author, 'MATCHING_POST', m.matching_post_id, m.matching_post_id, m.title,"
+            + " SUBSTRING(m.content, 1, :length), NULL, m.category, m.create_date"
+            + " FROM matching_post m WHERE m.author IS NOT NULL", nativeQuery = true)
+    int backfillMatchingPosts(@Param("length") int length);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_activity"
+            + " (user_id, activity_type, ref_id, post_id, title, content, department, category, created_at)"
+            + " SELECT r.review_author, 'REVIEW', r.review_id, m.matching_post_id, m.title,"
+            + " SUBSTRING(r.review_content, 1, :length), NULL, m.category, r.create_date"
+            + " FROM matching_post_review r JOIN matching_post m ON m.matching_post_id = r.matching_post_id"
+            + " WHERE r.review_author IS NOT NULL", nativeQuery = true)
+    int backfillReviews(@Param("length") int length);
+}
@@ -1,19 +1,42 @@
 package com.example.titto_backend.auth.repository;
 
+import com.example.titto_backend.auth.domain.SocialType;
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.dto.response.UserRankingDto;
+import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    // 경험치는 요청 처리와 outbox 처리기에서 동시에 바뀌므로 읽은 값을 덮어쓰지 않고 UPDATE 한 번으로 반영
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.currentExperience = u.currentExperience + :current,"
+            + " u.totalExperience = u.totalExperience + :total WHERE u.id = :id")
+    int addExperience(@Param("id") Long id, @Param("current") int current, @Param("total") int total);
+
+    // 현재 경험치가 부족하면 0건 (차감하지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.currentExperience = u.currentExperience - :amount"
+            + " WHERE u.id = :id AND u.currentExperience >= :amount")
+    int deductCurrentExperience(@Param("id") Long id, @Param("amount") int amount);
+
     Optional<User> findByNickname(String nickname);
 
+    Optional<User> findBySocialTypeAndSocialId(SocialType socialType, String socialId);
+
     boolean existsByNickname(String nickname);
 
     boolean existsByStudentNo(String studentNo);
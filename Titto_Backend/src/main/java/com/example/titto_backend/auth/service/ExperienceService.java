@@ -4,6 +4,7 @@ import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.util.CacheUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,36 +15,50 @@ public class ExperienceService {
 
     private final UserRepository userRepository;
     private final BadgeService badgeService;
+    private final CacheUtil cacheUtil;
 
     // 경험치 추가
     @Transactional
     public void addExperience(User questionAuthor, User answerAuthor, int experienceToAdd) {
-        if (questionAuthor != answerAuthor) {
-
-            int currentExperience = answerAuthor.getCurrentExperience();
-            int totalExperience = answerAuthor.getTotalExperience();
-
-            currentExperience += experienceToAdd;
-            totalExperience += experienceToAdd;
+        validateExperienceReceiver(questionAuthor, answerAuthor);
+        grantExperience(answerAuthor, experienceToAdd);
+    }
 
-            answerAuthor.setCurrentExperience(currentExperience);
-            answerAuthor.setTotalExperience(totalExperience);
-        } else {
+    // 질문 작성자 본인의 답변에는 경험치를 지급하지 않음
+    public void validateExperienceReceiver(User questionAuthor, User answerAuthor) {
+        if (questionAuthor == answerAuthor) {
             throw new CustomException(ErrorCode.CANNOT_ACCEPTED);
         }
     }
 
+    // 경험치 변경은 모두 UserRepository의 원자적 UPDATE로 반영 (영속성 컨텍스트의 User 경험치 값은 갱신되지 않음)
+    @Transactional
+    public void grantExperience(User user, int experienceToAdd) {
+        userRepository.addExperience(user.getId(), experienceToAdd, experienceToAdd);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
+    }
+
+    // 경험치 회수 (삭제된 답변으로 받은 경험치)
+    @Transactional
+    public void revokeExperience(User user, int experienceToRevoke) {
+        userRepository.addExperience(user.getId(), -experienceToRevoke, -experienceToRevoke);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
+    }
+
+    // 질문에 걸었던 경험치 환급 (누적 경험치는 그대로)
+    @Transactional
+    public void refundExperience(User user, int refundedExperience) {
+        userRepository.addExperience(user.getId(), refundedExperience, 0);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
+    }
+
     // 경험치 차감
     @Transactional
     public void deductExperience(User user, Integer deductedExperience) {
-        Integer currentExperience = user.getCurrentExperience();
-
-        if (deductedExperience > currentExperience) {
+        if (userRepository.deductCurrentExperience(user.getId(), deductedExperience) == 0) {
             throw new CustomException(ErrorCode.INSUFFICIENT_EXPERIENCE);
         }
-
-        Integer newCurrentExperience = currentExperience - deductedExperience;
-        user.setCurrentExperience(newCurrentExperience);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
     }
 
     @Transactional
@@ -56,6 +71,7 @@ public class ExperienceService {
             user.setLevel(level + 1);
         }
         badgeService.getTittoAuthorityBadge(user);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, userId);
     }
 }
 
@@ -0,0 +1,66 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+// 소셜 로그인 제공자(카카오, 네이버)별 HTTP 클라이언트 (커넥션 풀 공유, 제공자별 타임아웃/서킷 브레이커)
+@Slf4j
+@RequiredArgsConstructor
+public class OAuthHttpClient {
+
+    @Getter
+    private final String provider;
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ErrorCode invalidRequestError;
+
+    public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                          Class<T> responseType) {
+        try {
+            return circuitBreaker.executeSupplier(() -> restTemplate.exchange(url, method, requestEntity, responseType));
+        } catch (HttpClientErrorException e) {
+            // 잘못된 인가 코드/토큰 등 클라이언트 오류는 서킷 브레이커 실패로 집계하지 않음
+            throw new CustomException(invalidRequestError);
+        } catch (CallNotPermittedException e) {
+            log.warn("{} 서킷 브레이커 OPEN 상태로 요청 차단", provider);
+            throw new CustomException(ErrorCode.OAUTH_SERVER_UNAVAILABLE);
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            log.warn("{} 서버 호출 실패: {}", provider, e.getMessage());
+            throw new CustomException(ErrorCode.OAUTH_SERVER_UNAVAILABLE);
+        }
+    }
+
+    // 로그인 전체 소요 시간을 제공자별로 기록 (oauth.login{provider, outcome})
+    public <T> T recordLogin(Supplier<T> login) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = login.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("oauth.login")
+                    .description("소셜 로그인 소요 시간")
+                    .tag("provider", provider)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
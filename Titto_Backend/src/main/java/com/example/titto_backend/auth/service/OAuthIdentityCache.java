@@ -0,0 +1,36 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.auth.domain.SocialType;
+import com.example.titto_backend.common.util.HashUtil;
+import com.example.titto_backend.common.util.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 제공자 액세스 토큰으로 검증된 소셜 ID를 짧은 시간 동안 캐시 (재로그인 시 제공자 프로필 조회 생략)
+// 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+@Service
+@RequiredArgsConstructor
+public class OAuthIdentityCache {
+
+    private static final String KEY_PREFIX = "oauthIdentity:";
+
+    private final RedisUtil redisUtil;
+
+    @Value("${oauth.identity-cache-ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public String getSocialId(SocialType socialType, String providerAccessToken) {
+        // Redis를 사용할 수 없으면 캐시 미스로 처리 (제공자 프로필 조회)
+        return redisUtil.fallback("oauthIdentity", () -> redisUtil.getData(key(socialType, providerAccessToken)), () -> null);
+    }
+
+    public void put(SocialType socialType, String providerAccessToken, String socialId) {
+        redisUtil.runOrSkip("oauthIdentity",
+                () -> redisUtil.setDateExpire(key(socialType, providerAccessToken), socialId, ttlSeconds));
+    }
+
+    private String key(SocialType socialType, String providerAccessToken) {
+        return KEY_PREFIX + socialType.name().toLowerCase() + ":" + HashUtil.sha256(providerAccessToken);
+    }
+}
@@ -2,37 +2,33 @@ package com.example.titto_backend.auth.service;
 
 import com.example.titto_backend.auth.domain.SocialType;
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.response.OAuthProviderDTO;
 import com.example.titto_backend.auth.dto.response.TokenDTO;
 import com.example.titto_backend.auth.dto.request.UserDTO;
-import com.example.titto_backend.auth.jwt.TokenProvider;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class OAuthKakaoService {
 
     private final UserRepository userRepository;
-    private final TokenProvider tokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenService tokenService;
+    private final OAuthHttpClient kakaoOAuthClient;
+    private final OAuthIdentityCache oAuthIdentityCache;
 
     @Value("${oauth.kakao.client-id}")
     private String KAKAO_CLIENT_ID;
@@ -43,10 +39,14 @@ public class OAuthKakaoService {
     @Value("${oauth.kakao.redirect-uri}")
     private String KAKAO_REDIRECT_URI;
 
-    public TokenDTO.KakaoToken getToken(String code) {
-        RestTemplate restTemplate = new RestTemplate();
+    @Value("${oauth.kakao.token-uri:https://kauth.kakao.com/oauth/token}")
+    private String KAKAO_TOKEN_URI;
+
+    @Value("${oauth.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}")
+    private String KAKAO_USER_INFO_URI;
 
-        String reqURL = "https://kauth.kakao.com/oauth/token";
+    public TokenDTO.KakaoToken getToken(String code) {
+        String reqURL = KAKAO_TOKEN_URI;
 
         MultiValueMap<String, String> requestParams = new LinkedMultiValueMap<>();
         requestParams.add("grant_type", "authorization_code");
@@ -60,92 +60,81 @@ public class OAuthKakaoService {
 
         HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(requestParams, headers);
 
-        ResponseEntity<String> responseEntity = restTemplate.exchange(reqURL, HttpMethod.POST, requestEntity,
-                String.class);
+        ResponseEntity<OAuthProviderDTO.TokenResponse> responseEntity = kakaoOAuthClient.exchange(reqURL,
+                HttpMethod.POST, requestEntity, OAuthProviderDTO.TokenResponse.class);
 
-        if (!responseEntity.getStatusCode().is2xxSuccessful()) {
+        if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
             throw new CustomException(ErrorCode.INVALID_KAKAO_VALUE);
         }
 
-        JsonElement jsonElement = JsonParser.parseString(Objects.requireNonNull(responseEntity.getBody()))
-                .getAsJsonObject();
-
-        String accessToken = jsonElement.getAsJsonObject().get("access_token").getAsString();
-        String refreshToken = jsonElement.getAsJsonObject().get("refresh_token").getAsString();
-
-        return new TokenDTO.KakaoToken(accessToken, refreshToken);
+        OAuthProviderDTO.TokenResponse token = responseEntity.getBody();
+        return new TokenDTO.KakaoToken(token.getAccessToken(), token.getRefreshToken());
     }
 
     @Transactional
     public TokenDTO.ServiceToken joinAndLogin(UserDTO.LoginRequest dto) {
-        RestTemplate restTemplate = new RestTemplate();
-        String reqURL = "https://kapi.kakao.com/v2/user/me";
+        return kakaoOAuthClient.recordLogin(() -> login(dto));
+    }
+
+    private TokenDTO.ServiceToken login(UserDTO.LoginRequest dto) {
+        // 최근에 검증된 토큰이면 카카오 프로필 조회 없이 소셜 ID로 바로 로그인
+        String cachedSocialId = oAuthIdentityCache.getSocialId(SocialType.KAKAO, dto.getKakaoAccessToken());
+        if (cachedSocialId != null) {
+            Optional<User> cachedUser = userRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, cachedSocialId);
+            if (cachedUser.isPresent()) {
+                return tokenService.issueToken(cachedUser.get());
+            }
+        }
+
+        String reqURL = KAKAO_USER_INFO_URI;
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
         headers.set("Authorization", "Bearer " + dto.getKakaoAccessToken());
 
         HttpEntity<String> requestEntity = new HttpEntity<>(headers);
-        ResponseEntity<String> responseEntity = restTemplate.exchange(reqURL, HttpMethod.POST, requestEntity,
-                String.class);
-
-        String email, profileImage = "";
-        long kakaoId = 0;
+        ResponseEntity<OAuthProviderDTO.KakaoUserResponse> responseEntity = kakaoOAuthClient.exchange(reqURL,
+                HttpMethod.POST, requestEntity, OAuthProviderDTO.KakaoUserResponse.class);
 
-        if (!responseEntity.getStatusCode().is2xxSuccessful()) {
+        if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
             throw new CustomException(ErrorCode.INVALID_KAKAO_VALUE);
         }
 
-        JsonElement jsonElement = JsonParser.parseString(Objects.requireNonNull(responseEntity.getBody()))
-                .getAsJsonObject();
-
-        kakaoId = jsonElement.getAsJsonObject().get("id").getAsLong();
-
-        boolean hasEmail = jsonElement.getAsJsonObject().get("kakao_account").getAsJsonObject().get("has_email")
-                .getAsBoolean();
-        if (!hasEmail) {
+        OAuthProviderDTO.KakaoUserResponse kakaoUser = responseEntity.getBody();
+        OAuthProviderDTO.KakaoAccount kakaoAccount = kakaoUser.getKakaoAccount();
+        if (kakaoAccount == null || !kakaoAccount.isHasEmail()) {
             throw new CustomException(ErrorCode.EMAIL_NOT_FOUND);
         }
-        email = jsonElement.getAsJsonObject().get("kakao_account").getAsJsonObject().get("email").getAsString();
-
-        boolean hasProfileImage = jsonElement.getAsJsonObject()
-                .getAsJsonObject("kakao_account")
-                .getAsJsonObject("profile")
-                .has("has_profile_image") && jsonElement.getAsJsonObject()
-                .getAsJsonObject("kakao_account")
-                .getAsJsonObject("profile")
-                .get("has_profile_image")
-                .getAsBoolean();
-
-        profileImage = jsonElement.getAsJsonObject()
-                .getAsJsonObject("kakao_account")
-                .getAsJsonObject("profile")
-                .get("profile_image_url")
-                .getAsString();
 
+        long kakaoId = kakaoUser.getId();
+        String email = kakaoAccount.getEmail();
+        String profileImage = kakaoAccount.getProfile() == null || kakaoAccount.getProfile().getProfileImageUrl() == null
+                ? "" : kakaoAccount.getProfile().getProfileImageUrl();
+
+        String socialId = String.valueOf(kakaoId);
+        User user = userRepository.findBySocialTypeAndSocialId(SocialType.KAKAO, socialId)
+                .orElseGet(() -> join(email, profileImage, socialId));
+
+        oAuthIdentityCache.put(SocialType.KAKAO, dto.getKakaoAccessToken(), socialId);
+
+        return tokenService.issueToken(user);
+    }
+
+    // 신규 사용자 가입 (같은 이메일이 다른 소셜 계정으로 가입되어 있으면 예외)
+    private User join(String email, String profileImage, String socialId) {
         Optional<User> optionalUser = userRepository.findByEmail(email);
-        User user;
-        if (optionalUser.isEmpty()) {
-            user = userRepository.save(User.builder()
-                    .email(email)
-                    .profile(profileImage)
-                    .socialId(String.valueOf(kakaoId))
-                    .socialType(SocialType.KAKAO)
-                    .build());
-        } else {
-            user = optionalUser.get();
-
-            if (!Objects.equals(user.getSocialId(), String.valueOf(kakaoId))) {
+        if (optionalUser.isPresent()) {
+            if (!Objects.equals(optionalUser.get().getSocialId(), socialId)) {
                 throw new CustomException(ErrorCode.DUPLICATED_EMAIL);
             }
+            return optionalUser.get();
         }
 
-        TokenDTO.ServiceToken tokenDTO = tokenProvider.createToken(email);
-
-        Long expireTime = tokenProvider.getExpiration(tokenDTO.getRefreshToken());
-
-        redisTemplate.opsForValue().set(tokenDTO.getRefreshToken(), "refreshToken", expireTime, TimeUnit.MILLISECONDS);
-
-        return tokenDTO;
+        return userRepository.save(User.builder()
+                .email(email)
+                .profile(profileImage)
+                .socialId(socialId)
+                .socialType(SocialType.KAKAO)
+                .build());
     }
 }
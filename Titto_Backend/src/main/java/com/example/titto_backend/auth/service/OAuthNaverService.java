@@ -2,20 +2,16 @@ package com.example.titto_backend.auth.service;
 
 import com.example.titto_backend.auth.domain.SocialType;
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.response.OAuthProviderDTO;
 import com.example.titto_backend.auth.dto.response.TokenDTO;
 import com.example.titto_backend.auth.dto.request.UserDTO;
-import com.example.titto_backend.auth.jwt.TokenProvider;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -24,15 +20,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class OAuthNaverService {
 
     private final UserRepository userRepository;
-    private final TokenProvider tokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenService tokenService;
+    private final OAuthHttpClient naverOAuthClient;
+    private final OAuthIdentityCache oAuthIdentityCache;
 
     @Value("${oauth.naver.client-id}")
     private String NAVER_CLIENT_ID;
@@ -43,10 +39,14 @@ public class OAuthNaverService {
     @Value("${oauth.naver.redirect-uri}")
     private String NAVER_REDIRECT_URI;
 
-    public TokenDTO.NaverToken getToken(String code, String state) {
-        RestTemplate restTemplate = new RestTemplate();
+    @Value("${oauth.naver.token-uri:https://nid.naver.com/oauth2.0/token}")
+    private String NAVER_TOKEN_URI;
+
+    @Value("${oauth.naver.user-info-uri:https://openapi.naver.com/v1/nid/me}")
+    private String NAVER_USER_INFO_URI;
 
-        String reqURL = "https://nid.naver.com/oauth2.0/token";
+    public TokenDTO.NaverToken getToken(String code, String state) {
+        String reqURL = NAVER_TOKEN_URI;
 
         MultiValueMap<String, String> requestParams = new LinkedMultiValueMap<>();
         requestParams.add("grant_type", "authorization_code");
@@ -61,74 +61,75 @@ public class OAuthNaverService {
 
         HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(requestParams, headers);
 
-        ResponseEntity<String> responseEntity = restTemplate.exchange(reqURL, HttpMethod.POST, requestEntity,
-                String.class);
+        ResponseEntity<OAuthProviderDTO.TokenResponse> responseEntity = naverOAuthClient.exchange(reqURL,
+                HttpMethod.POST, requestEntity, OAuthProviderDTO.TokenResponse.class);
 
-        if (!responseEntity.getStatusCode().is2xxSuccessful()) {
+        if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null) {
             throw new CustomException(ErrorCode.INVALID_NAVER_VALUE);
         }
 
-        JsonElement jsonElement = JsonParser.parseString(Objects.requireNonNull(responseEntity.getBody()))
-                .getAsJsonObject();
-
-        String accessToken = jsonElement.getAsJsonObject().get("access_token").getAsString();
-        String refreshToken = jsonElement.getAsJsonObject().get("refresh_token").getAsString();
-
-        return new TokenDTO.NaverToken(accessToken, refreshToken);
+        OAuthProviderDTO.TokenResponse token = responseEntity.getBody();
+        return new TokenDTO.NaverToken(token.getAccessToken(), token.getRefreshToken());
     }
 
     @Transactional
     public TokenDTO.ServiceToken joinAndLogin(UserDTO.LoginRequest dto) {
-        RestTemplate restTemplate = new RestTemplate();
-        String reqURL = "https://openapi.naver.com/v1/nid/me";
+        return naverOAuthClient.recordLogin(() -> login(dto));
+    }
+
+    private TokenDTO.ServiceToken login(UserDTO.LoginRequest dto) {
+        // 최근에 검증된 토큰이면 네이버 프로필 조회 없이 소셜 ID로 바로 로그인
+        String cachedSocialId = oAuthIdentityCache.getSocialId(SocialType.NAVER, dto.getNaverAccessToken());
+        if (cachedSocialId != null) {
+            Optional<User> cachedUser = userRepository.findBySocialTypeAndSocialId(SocialType.NAVER, cachedSocialId);
+            if (cachedUser.isPresent()) {
+                return tokenService.issueToken(cachedUser.get());
+            }
+        }
+
+        String reqURL = NAVER_USER_INFO_URI;
 
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
         headers.set("Authorization", "Bearer " + dto.getNaverAccessToken());
 
         HttpEntity<String> requestEntity = new HttpEntity<>(headers);
-        ResponseEntity<String> responseEntity = restTemplate.exchange(reqURL, HttpMethod.POST, requestEntity,
-                String.class);
-
-        String email = "";
-        String profileImage = "";
-        String naverId = "";
+        ResponseEntity<OAuthProviderDTO.NaverUserResponse> responseEntity = naverOAuthClient.exchange(reqURL,
+                HttpMethod.POST, requestEntity, OAuthProviderDTO.NaverUserResponse.class);
 
-        if (!responseEntity.getStatusCode().is2xxSuccessful()) {
+        if (!responseEntity.getStatusCode().is2xxSuccessful() || responseEntity.getBody() == null
+                || responseEntity.getBody().getResponse() == null) {
             throw new CustomException(ErrorCode.INVALID_NAVER_VALUE);
         }
 
-        JsonElement jsonElement = JsonParser.parseString(Objects.requireNonNull(responseEntity.getBody()))
-                .getAsJsonObject()
-                .getAsJsonObject("response");
+        OAuthProviderDTO.NaverAccount naverAccount = responseEntity.getBody().getResponse();
+        String email = naverAccount.getEmail();
+        String profileImage = naverAccount.getProfileImage();
+        String socialId = naverAccount.getId();
+
+        User user = userRepository.findBySocialTypeAndSocialId(SocialType.NAVER, socialId)
+                .orElseGet(() -> join(email, profileImage, socialId));
+
+        oAuthIdentityCache.put(SocialType.NAVER, dto.getNaverAccessToken(), socialId);
 
-        email = jsonElement.getAsJsonObject().get("email").getAsString();
-        profileImage = jsonElement.getAsJsonObject().get("profile_image").getAsString();
-        naverId = jsonElement.getAsJsonObject().get("id").getAsString();
+        return tokenService.issueToken(user);
+    }
 
+    // 신규 사용자 가입 (같은 이메일이 다른 소셜 계정으로 가입되어 있으면 예외)
+    private User join(String email, String profileImage, String socialId) {
         Optional<User> optionalUser = userRepository.findByEmail(email);
-        User user;
-        if (optionalUser.isEmpty()) {
-            user = userRepository.save(User.builder()
-                    .email(email)
-                    .profile(profileImage)
-                    .socialId(String.valueOf(naverId))
-                    .socialType(SocialType.NAVER)
-                    .build());
-        } else {
-            user = optionalUser.get();
-
-            if (!user.getSocialId().equals(naverId)) {
+        if (optionalUser.isPresent()) {
+            if (!Objects.equals(optionalUser.get().getSocialId(), socialId)) {
                 throw new CustomException(ErrorCode.DUPLICATED_EMAIL);
             }
+            return optionalUser.get();
         }
 
-        TokenDTO.ServiceToken tokenDTO = tokenProvider.createToken(email);
-
-        Long expireTime = tokenProvider.getExpiration(tokenDTO.getRefreshToken());
-
-        redisTemplate.opsForValue().set(tokenDTO.getRefreshToken(), "refreshToken", expireTime, TimeUnit.MILLISECONDS);
-
-        return tokenDTO;
+        return userRepository.save(User.builder()
+                .email(email)
+                .profile(profileImage)
+                .socialId(socialId)
+                .socialType(SocialType.NAVER)
+                .build());
     }
 }
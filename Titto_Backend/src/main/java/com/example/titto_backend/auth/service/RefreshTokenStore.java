@@ -0,0 +1,122 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.common.util.HashUtil;
+import com.example.titto_backend.common.util.RedisUtil;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+// 리프레시 토큰 저장소
+// refreshToken:{토큰 해시} -> { userId, email }
+// userSessions:{userId}    -> 토큰 해시 ZSET (score: 만료 시각), 전체 세션 폐기에 사용
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String TOKEN_KEY_PREFIX = "refreshToken:";
+    private static final String SESSIONS_KEY_PREFIX = "userSessions:";
+    private static final String USER_ID = "userId";
+    private static final String EMAIL = "email";
+
+    // 기존 토큰 확인/삭제와 새 토큰 저장을 한 번의 왕복으로 원자적으로 처리
+    // KEYS: 기존 토큰 키, 새 토큰 키, 세션 목록 키 / ARGV: 기존 해시, 새 해시, TTL, 사용자 ID, 현재 시각
+    // 세션 목록 키를 만들 때 조회한 사용자와 스크립트 실행 시점의 사용자가 다르면(그 사이 폐기) 실패
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local session = redis.call('HMGET', KEYS[1], 'userId', 'email')
+            if not session[1] or session[1] ~= ARGV[4] then
+                return nil
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            redis.call('HSET', KEYS[2], 'userId', session[1], 'email', session[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            redis.call('ZADD', KEYS[3], ARGV[5] + ARGV[3], ARGV[2])
+            redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[5])
+            redis.call('PEXPIRE', KEYS[3], ARGV[3])
+            return session
+            """, List.class);
+
+    // KEYS: 토큰 키, 세션 목록 키 / ARGV: 토큰 해시, 사용자 ID
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'userId') ~= ARGV[2] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 세션 목록 조회와 토큰 삭제를 원자적으로 처리 (그 사이 rotate로 추가된 토큰이 목록에서만 빠지고 살아남지 않도록)
+    // 토큰 키는 세션 목록에서 읽은 해시로 만듦 (KEYS: 세션 목록 키 / ARGV: 토큰 키 접두사)
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local tokenHashes = redis.call('ZRANGE', KEYS[1], 0, -1)
+            for _, tokenHash in ipairs(tokenHashes) do
+                redis.call('DEL', ARGV[1] .. tokenHash)
+            end
+            redis.call('DEL', KEYS[1])
+            return #tokenHashes
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+
+    public void save(Long userId, String email, String refreshToken, long ttlMillis) {
+        String tokenHash = HashUtil.sha256(refreshToken);
+        String sessionsKey = sessionsKey(userId);
+        long now = System.currentTimeMillis();
+
+        redisUtil.pipeline(tokenKey(tokenHash), operations -> {
+            operations.opsForHash().putAll(tokenKey(tokenHash), Map.of(USER_ID, String.valueOf(userId), EMAIL, email));
+            operations.expire(tokenKey(tokenHash), ttlMillis, TimeUnit.MILLISECONDS);
+            operations.opsForZSet().add(sessionsKey, tokenHash, now + ttlMillis);
+            operations.opsForZSet().removeRangeByScore(sessionsKey, Double.NEGATIVE_INFINITY, now);
+            operations.expire(sessionsKey, ttlMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    // 사용된 리프레시 토큰을 폐기하고 새 토큰으로 교체, 유효하지 않은 토큰이면 null
+    public String rotate(String refreshToken, String newRefreshToken, long ttlMillis) {
+        String tokenHash = HashUtil.sha256(refreshToken);
+        String newTokenHash = HashUtil.sha256(newRefreshToken);
+        String userId = redisUtil.getHashValue(tokenKey(tokenHash), USER_ID);
+        if (userId == null) {
+            return null;
+        }
+
+        List<?> session = redisUtil.executeScript(ROTATE_SCRIPT,
+                List.of(tokenKey(tokenHash), tokenKey(newTokenHash), SESSIONS_KEY_PREFIX + userId),
+                tokenHash, newTokenHash, String.valueOf(ttlMillis), userId,
+                String.valueOf(System.currentTimeMillis()));
+
+        if (session == null || session.size() < 2 || session.get(1) == null) {
+            return null;
+        }
+        return String.valueOf(session.get(1));
+    }
+
+    public void revoke(String refreshToken) {
+        String tokenHash = HashUtil.sha256(refreshToken);
+        String userId = redisUtil.getHashValue(tokenKey(tokenHash), USER_ID);
+        if (userId == null) {
+            return;
+        }
+        redisUtil.executeScript(REVOKE_SCRIPT, List.of(tokenKey(tokenHash), SESSIONS_KEY_PREFIX + userId),
+                tokenHash, userId);
+    }
+
+    // 사용자의 모든 세션(리프레시 토큰) 폐기
+    public void revokeAll(Long userId) {
+        redisUtil.executeScript(REVOKE_ALL_SCRIPT, List.of(sessionsKey(userId)), TOKEN_KEY_PREFIX);
+    }
+
+    private static String tokenKey(String tokenHash) {
+        return TOKEN_KEY_PREFIX + tokenHash;
+    }
+
+    private static String sessionsKey(Long userId) {
+        return SESSIONS_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.auth.jwt.TokenProvider;
+import com.example.titto_backend.common.util.HashUtil;
+import com.example.titto_backend.common.util.RedisUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 로그아웃된 액세스 토큰 블랙리스트
+// blacklist:{jti} (jti가 없는 토큰은 SHA-256 다이제스트) -> 토큰 원문 대신 고정 길이 키 사용
+// 로컬 니어 캐시: 이 서버에서 로그아웃했거나 Redis에서 확인된 키를 보관 (Redis 장애 시 폴백)
+@Service
+public class TokenBlacklistService {
+
+    private static final String KEY_PREFIX = "blacklist:";
+    private static final String LOGOUT = "1";
+
+    private final RedisUtil redisUtil;
+    private final TokenProvider tokenProvider;
+    private final Cache<String, Boolean> nearCache;
+
+    public TokenBlacklistService(RedisUtil redisUtil, TokenProvider tokenProvider,
+                                 @Value("${jwt.access-token-validity-in-milliseconds}") long accessTokenValidity,
+                                 @Value("${redis.blacklist.near-cache-size:100000}") long nearCacheSize) {
+        this.redisUtil = redisUtil;
+        this.tokenProvider = tokenProvider;
+        // 액세스 토큰 유효 기간이 지나면 블랙리스트 항목도 의미가 없으므로 같은 기간만 보관
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheSize)
+                .expireAfterWrite(Duration.ofMillis(accessTokenValidity))
+                .build();
+    }
+
+    // 토큰은 한 번만 파싱해 남은 유효 시간과 jti를 함께 꺼냄 (이미 만료된 토큰은 등록할 필요 없음)
+    public void blacklist(String accessToken) {
+        Claims claims = tokenProvider.parseClaims(accessToken);
+        long expireTime = tokenProvider.getExpiration(claims);
+        if (expireTime <= 0) {
+            return;
+        }
+        String key = key(accessToken, claims.getId());
+
+        nearCache.put(key, Boolean.TRUE);
+        redisUtil.setDataExpireMillis(key, LOGOUT, expireTime);
+    }
+
+    // Redis를 사용할 수 없으면 니어 캐시만 확인 (다른 서버에서 로그아웃된 토큰은 Redis 복구 전까지 확인 불가)
+    // claims는 필터에서 검증하며 파싱한 값 (토큰을 다시 파싱하지 않음)
+    public boolean isBlacklisted(String accessToken, Claims claims) {
+        String tokenId = claims.getId();
+        String key = key(accessToken, tokenId);
+        if (nearCache.getIfPresent(key) != null) {
+            return true;
+        }
+
+        boolean blacklisted = redisUtil.fallback("blacklist", () -> tokenId != null
+                ? redisUtil.hasKey(key)
+                // jti 발급 이전 토큰: 다이제스트 키와 기존 방식(토큰 원문 키)을 EXISTS 한 번으로 함께 확인 (기존 토큰 만료 후 제거 가능)
+                : redisUtil.hasAnyKey(List.of(key, accessToken)), () -> false);
+        if (blacklisted) {
+            nearCache.put(key, Boolean.TRUE);
+        }
+        return blacklisted;
+    }
+
+    private static String key(String accessToken, String tokenId) {
+        return KEY_PREFIX + (tokenId != null ? tokenId : HashUtil.sha256(accessToken));
+    }
+}
@@ -1,43 +1,73 @@
 package com.example.titto_backend.auth.service;
 
+import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.dto.response.TokenDTO;
 import com.example.titto_backend.auth.jwt.TokenProvider;
+import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.util.ObjectUtils;
 
 import java.security.Principal;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class TokenService {
 
     private final TokenProvider tokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserRepository userRepository;
 
-    public TokenDTO.ServiceToken refresh(HttpServletRequest request, TokenDTO.ServiceToken dto) {
-        String refreshToken = dto.getRefreshToken();
+    // 로그인 시 서비스 토큰 발급 및 리프레시 토큰을 사용자 세션으로 등록
+    public TokenDTO.ServiceToken issueToken(User user) {
+        TokenDTO.ServiceToken tokenDTO = tokenProvider.createToken(user.getEmail());
 
-        String isValidate = (String) redisTemplate.opsForValue().get(refreshToken);
-        if (ObjectUtils.isEmpty(isValidate)) {
+        Long expireTime = tokenProvider.getExpiration(tokenDTO.getRefreshToken());
+        refreshTokenStore.save(user.getId(), user.getEmail(), tokenDTO.getRefreshToken(), expireTime);
+
+        return tokenDTO;
+    }
+
+    // 리프레시 토큰은 1회용으로, 사용 시 새 리프레시 토큰으로 교체 (만료된 액세스 토큰 불필요)
+    // 리프레시 토큰은 Redis에만 있으므로 폴백 없이 Redis 장애 시 즉시 REDIS_UNAVAILABLE(503) 응답
+    public TokenDTO.ServiceToken refresh(TokenDTO.ServiceToken dto) {
+        String newRefreshToken = tokenProvider.createRefreshToken();
+        Long expireTime = tokenProvider.getExpiration(newRefreshToken);
+
+        String email = refreshTokenStore.rotate(dto.getRefreshToken(), newRefreshToken, expireTime);
+        if (email == null) {
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
-        return tokenProvider.createAccessTokenByRefreshToken(request, refreshToken);
+
+        return TokenDTO.ServiceToken.builder()
+                .accessToken(tokenProvider.createAccessToken(email))
+                .refreshToken(newRefreshToken)
+                .build();
     }
 
     public void logout(HttpServletRequest request, TokenDTO.ServiceToken dto, Principal principal) {
-        String accessToken = tokenProvider.resolveToken(request);
+        blacklistAccessToken(request);
 
-        Long expireTime = tokenProvider.getExpiration(accessToken);
+        refreshTokenStore.revoke(dto.getRefreshToken());
+    }
 
-        redisTemplate.opsForValue().set(accessToken, "logout", expireTime, TimeUnit.MILLISECONDS);
+    // 모든 기기에서 로그아웃 (사용자의 리프레시 토큰 전체 폐기)
+    public void logoutAll(HttpServletRequest request, Principal principal) {
+        if (principal == null) {
+            throw new CustomException(ErrorCode.INVALID_AUTH_TOKEN);
+        }
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        blacklistAccessToken(request);
 
-        redisTemplate.delete(dto.getRefreshToken());
+        refreshTokenStore.revokeAll(user.getId());
     }
-}
 
+    private void blacklistAccessToken(HttpServletRequest request) {
+        tokenBlacklistService.blacklist(tokenProvider.resolveToken(request));
+    }
+}
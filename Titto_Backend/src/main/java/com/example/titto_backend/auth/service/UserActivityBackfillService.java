@@ -0,0 +1,32 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.auth.repository.UserActivityRepository;
+import com.example.titto_backend.common.util.ContentPreview;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// user_activity 도입 이전 데이터를 원본 테이블에서 한 번에 채움
+// 이벤트 반영이 시작된 뒤 실행하고, 완료되면 user-activity.read-from-table을 켬 (이미 있는 행은 건너뜀)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-activity.backfill-on-startup", havingValue = "true")
+public class UserActivityBackfillService {
+
+    private final UserActivityRepository userActivityRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int questions = userActivityRepository.backfillQuestions(ContentPreview.LENGTH);
+        int answers = userActivityRepository.backfillAnswers(ContentPreview.LENGTH);
+        int matchingPosts = userActivityRepository.backfillMatchingPosts(ContentPreview.LENGTH);
+        int reviews = userActivityRepository.backfillReviews(ContentPreview.LENGTH);
+
+        log.info("user_activity 백필 완료: 질문 {}건, 답변 {}건, 매칭 게시글 {}건, 리뷰 {}건",
+                questions, answers, matchingPosts, reviews);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.auth.domain.ActivityType;
+import com.example.titto_backend.auth.domain.UserActivity;
+import com.example.titto_backend.auth.repository.UserActivityRepository;
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+import com.example.titto_backend.common.event.service.OutboxEventHandler;
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
+import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
+import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
+import com.example.titto_backend.questionBoard.domain.Answer;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.repository.AnswerRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 글 작성/수정/삭제 이벤트로 user_activity 행을 갱신
+// 이벤트는 여러 워커에서 순서 없이 처리될 수 있으므로 payload 대신 처리 시점의 원본을 다시 읽어 맞춤
+@Service
+@RequiredArgsConstructor
+public class UserActivityEventHandler implements OutboxEventHandler {
+
+    private static final Set<EventType> SUPPORTED_TYPES = EnumSet.of(
+            EventType.QUESTION_CREATED, EventType.QUESTION_UPDATED, EventType.QUESTION_DELETED,
+            EventType.ANSWER_CREATED, EventType.ANSWER_UPDATED, EventType.ANSWER_DELETED,
+            EventType.MATCHING_POST_CREATED, EventType.MATCHING_POST_UPDATED, EventType.MATCHING_POST_DELETED,
+            EventType.REVIEW_CREATED, EventType.REVIEW_UPDATED, EventType.REVIEW_DELETED);
+
+    private final UserActivityRepository userActivityRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final MatchingPostRepository matchingPostRepository;
+    private final MatchingPostReviewRepository matchingPostReviewRepository;
+
+    @Override
+    public boolean supports(EventType eventType) {
+        return SUPPORTED_TYPES.contains(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        Long id = event.getAggregateId();
+        switch (event.getEventType()) {
+            case QUESTION_CREATED, QUESTION_UPDATED -> {
+                Optional<Question> question = questionRepository.findById(id);
+                sync(ActivityType.QUESTION, id, question.map(this::fromQuestion));
+                question.ifPresent(q -> userActivityRepository.refreshPost(
+                        ActivityType.ANSWER, id, q.getTitle(), q.getDepartment(), null));
+            }
+            case MATCHING_POST_CREATED, MATCHING_POST_UPDATED -> {
+                Optional<MatchingPost> post = matchingPostRepository.findById(id);
+                sync(ActivityType.MATCHING_POST, id, post.map(this::fromMatchingPost));
+                post.ifPresent(p -> userActivityRepository.refreshPost(
+                        ActivityType.REVIEW, id, p.getTitle(), null, p.getCategory()));
+            }
+            case ANSWER_CREATED, ANSWER_UPDATED ->
+                    sync(ActivityType.ANSWER, id, answerRepository.findById(id).map(this::fromAnswer));
+            case REVIEW_CREATED, REVIEW_UPDATED ->
+                    sync(ActivityType.REVIEW, id, matchingPostReviewRepository.findById(id).map(this::fromReview));
+            case QUESTION_DELETED ->
+                    userActivityRepository.deleteByPost(List.of(ActivityType.QUESTION, ActivityType.ANSWER), id);
+            case MATCHING_POST_DELETED ->
+                    userActivityRepository.deleteByPost(List.of(ActivityType.MATCHING_POST, ActivityType.REVIEW), id);
+            case ANSWER_DELETED -> userActivityRepository.deleteByRef(ActivityType.ANSWER, id);
+            case REVIEW_DELETED -> userActivityRepository.deleteByRef(ActivityType.REVIEW, id);
+            default -> {
+            }
+        }
+    }
+
+    // 원본이 있으면 행을 만들거나 갱신하고, 이미 삭제되었으면 행도 삭제
+    private void sync(ActivityType type, Long refId, Optional<UserActivity> source) {
+        if (source.isEmpty()) {
+            userActivityRepository.deleteByRef(type, refId);
+            return;
+        }
+        userActivityRepository.findByActivityTypeAndRefId(type, refId)
+                .ifPresentOrElse(activity -> activity.refresh(source.get()),
+                        () -> userActivityRepository.save(source.get()));
+    }
+
+    private UserActivity fromQuestion(Question question) {
+        return UserActivity.builder()
+                .userId(question.getAuthor().getId())
+                .activityType(ActivityType.QUESTION)
+                .refId(question.getId())
+                .postId(question.getId())
+                .title(question.getTitle())
+                .content(ContentPreview.of(question.getContent()))
+                .department(question.getDepartment())
+                .createdAt(question.getCreateDate())
+                .build();
+    }
+
+    private UserActivity fromAnswer(Answer answer) {
+        return UserActivity.builder()
+                .userId(answer.getAuthor().getId())
+                .activityType(ActivityType.ANSWER)
+                .refId(answer.getId())
+                .postId(answer.getQuestion().getId())
+                .title(answer.getQuestion().getTitle())
+                .content(ContentPreview.of(answer.getContent()))
+                .department(answer.getQuestion().getDepartment())
+                .createdAt(answer.getCreateDate())
+                .build();
+    }
+
+    private UserActivity fromMatchingPost(MatchingPost post) {
+        return UserActivity.builder()
+                .userId(post.getUser().getId())
+                .activityType(ActivityType.MATCHING_POST)
+                .refId(post.getMatchingPostId())
+                .postId(post.getMatchingPostId())
+                .title(post.getTitle())
+                .content(ContentPreview.of(post.getContent()))
+                .category(post.getCategory())
+                .createdAt(post.getCreateDate())
+                .build();
+    }
+
+    private UserActivity fromReview(MatchingPostReview review) {
+        MatchingPost post = review.getMatchingPost();
+        return UserActivity.builder()
+                .userId(review.getReviewAuthor().getId())
+                .activityType(ActivityType.REVIEW)
+                .refId(review.getReview_id())
+                .postId(post.getMatchingPostId())
+                .title(post.getTitle())
+                .content(ContentPreview.of(review.getContent()))
+                .category(post.getCategory())
+                .createdAt(review.getCreateDate())
+                .build();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.auth.domain.ActivityType;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.auth.dto.response.UserActivityPageDto;
+import com.example.titto_backend.auth.repository.UserActivityRepository;
+import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
+import com.example.titto_backend.questionBoard.repository.AnswerRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 질문, 매칭 게시글, 답변, 리뷰를 작성일 최신순으로 합친 활동 피드
+// 종류별로 커서 이후 size + 1건만 키셋 조회한 뒤 k-way 병합 (활동이 많아도 페이지당 조회량이 일정)
+// user-activity.read-from-table이 켜져 있으면 user_activity 한 번의 키셋 조회로 대체 (커서 형식은 동일)
+@Service
+@RequiredArgsConstructor
+public class UserActivityService {
+
+    public static final int DEFAULT_SIZE = 20;
+    private static final int MAX_SIZE = 50;
+
+    // 첫 페이지는 MySQL DATETIME 최댓값 이전 전체를 조회
+    private static final LocalDateTime FIRST_PAGE_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    // 작성일, 종류, ID 모두 내림차순 (user_activity 인덱스 역방향 스캔 순서와 동일)
+    private static final Comparator<UserActivityDto> FEED_ORDER = Comparator
+            .comparing(UserActivityDto::getCreatedDate, Comparator.reverseOrder())
+            .thenComparing(UserActivityDto::getType, Comparator.reverseOrder())
+            .thenComparing(UserActivityDto::getId, Comparator.reverseOrder());
+
+    private final UserRepository userRepository;
+    private final QuestionRepository questionRepository;
+    private final MatchingPostRepository matchingPostRepository;
+    private final AnswerRepository answerRepository;
+    private final MatchingPostReviewRepository matchingPostReviewRepository;
+    private final UserActivityRepository userActivityRepository;
+
+    @Value("${user-activity.read-from-table:false}")
+    private boolean readFromActivityTable;
+
+    @Transactional(readOnly = true)
+    public UserActivityPageDto findActivities(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_SIZE));
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<UserActivityDto> merged = readFromActivityTable
+                ? fetchFromActivityTable(userId, after, limit)
+                : merge(fetchEachType(userId, after, limit), pageSize + 1);
+        boolean hasNext = merged.size() > pageSize;
+        List<UserActivityDto> activities = hasNext ? merged.subList(0, pageSize) : merged;
+        String nextCursor = hasNext ? Cursor.of(activities.get(pageSize - 1)).encode() : null;
+
+        return new UserActivityPageDto(activities, nextCursor, hasNext);
+    }
+
+    private List<UserActivityDto> fetchFromActivityTable(Long userId, Cursor after, Pageable limit) {
+        if (after == null) {
+            return userActivityRepository.findFeed(userId, FIRST_PAGE_DATE, ActivityType.REVIEW, Long.MAX_VALUE, limit);
+        }
+        return userActivityRepository.findFeed(userId, after.createdDate(), after.type(), after.id(), limit);
+    }
+
+    private List<List<UserActivityDto>> fetchEachType(Long userId, Cursor after, Pageable limit) {
+        List<List<UserActivityDto>> sources = new ArrayList<>();
+        for (ActivityType type : ActivityType.values()) {
+            sources.add(fetch(type, userId, after, limit));
+        }
+        return sources;
+    }
+
+    private List<UserActivityDto> fetch(ActivityType type, Long userId, Cursor after, Pageable limit) {
+        LocalDateTime cursorDate = after == null ? FIRST_PAGE_DATE : after.createdDate();
+        long cursorId = after == null ? Long.MAX_VALUE : after.idBoundFor(type);
+
+        return switch (type) {
+            case QUESTION -> questionRepository.findActivitiesByAuthor(userId, cursorDate, cursorId, limit);
+            case MATCHING_POST -> matchingPostRepository.findActivitiesByAuthor(userId, cursorDate, cursorId, limit);
+            case ANSWER -> answerRepository.findActivitiesByAuthor(userId, cursorDate, cursorId, limit);
+            case REVIEW -> matchingPostReviewRepository.findActivitiesByAuthor(userId, cursorDate, cursorId, limit);
+        };
+    }
+
+    // 각 목록은 이미 FEED_ORDER로 정렬되어 있으므로 목록별 선두만 힙에 유지
+    private static List<UserActivityDto> merge(List<List<UserActivityDto>> sources, int limit) {
+        PriorityQueue<Head> heads = new PriorityQueue<>((a, b) -> FEED_ORDER.compare(a.item(), b.item()));
+        for (List<UserActivityDto> source : sources) {
+            Iterator<UserActivityDto> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        List<UserActivityDto> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Head head = heads.poll();
+            merged.add(head.item());
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(UserActivityDto item, Iterator<UserActivityDto> rest) {
+    }
+
+    // 마지막으로 내려준 항목의 (작성일, 종류, ID)
+    private record Cursor(LocalDateTime createdDate, ActivityType type, long id) {
+
+        static Cursor of(UserActivityDto activity) {
+            return new Cursor(activity.getCreatedDate(), activity.getType(), activity.getId());
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(",");
+                return new Cursor(LocalDateTime.parse(parts[0]), ActivityType.valueOf(parts[1]),
+                        Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+        }
+
+        String encode() {
+            String value = createdDate + "," + type + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // 같은 작성일에서 커서보다 앞 순서(이름이 뒤)인 종류는 모두 제외, 뒤 순서인 종류는 모두 포함
+        long idBoundFor(ActivityType other) {
+            int order = other.compareTo(type);
+            if (order > 0) {
+                return 0L;
+            }
+            return order == 0 ? id : Long.MAX_VALUE;
+        }
+    }
+}
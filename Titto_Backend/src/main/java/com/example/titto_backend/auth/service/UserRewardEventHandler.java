@@ -0,0 +1,77 @@
+package com.example.titto_backend.auth.service;
+
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+import com.example.titto_backend.common.event.dto.DomainEventDTO;
+import com.example.titto_backend.common.event.service.OutboxEventHandler;
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.util.CacheUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 질문/답변/채택에 따른 경험치, 뱃지 지급을 요청 처리 이후 비동기로 수행
+@Service
+@RequiredArgsConstructor
+public class UserRewardEventHandler implements OutboxEventHandler {
+
+    private static final Set<EventType> SUPPORTED_TYPES =
+            EnumSet.of(EventType.QUESTION_CREATED, EventType.ANSWER_CREATED, EventType.ANSWER_ACCEPTED);
+
+    private final UserRepository userRepository;
+    private final ExperienceService experienceService;
+    private final BadgeService badgeService;
+    private final ObjectMapper objectMapper;
+    private final CacheUtil cacheUtil;
+
+    @Override
+    public boolean supports(EventType eventType) {
+        return SUPPORTED_TYPES.contains(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case QUESTION_CREATED -> {
+                DomainEventDTO.QuestionCreated payload = read(event, DomainEventDTO.QuestionCreated.class);
+                User author = findUserForUpdate(payload.getAuthorId());
+                badgeService.getQuestionBadge(author, author.getCountQuestion());
+                cacheUtil.evict(CacheUtil.USER_PROFILE, author.getId());
+            }
+            case ANSWER_CREATED -> {
+                DomainEventDTO.AnswerCreated payload = read(event, DomainEventDTO.AnswerCreated.class);
+                User answerAuthor = findUserForUpdate(payload.getAnswerAuthorId());
+                badgeService.getAnswerBadge(answerAuthor, answerAuthor.getCountAnswer());
+                experienceService.grantExperience(answerAuthor, payload.getExperience());
+            }
+            case ANSWER_ACCEPTED -> {
+                DomainEventDTO.AnswerAccepted payload = read(event, DomainEventDTO.AnswerAccepted.class);
+                User answerAuthor = findUserForUpdate(payload.getAnswerAuthorId());
+                experienceService.grantExperience(answerAuthor, payload.getExperience());
+                badgeService.getAcceptBadge(answerAuthor, answerAuthor.getCountAccept());
+            }
+            default -> {
+            }
+        }
+    }
+
+    // 같은 사용자에 대한 이벤트가 여러 워커에서 동시에 처리되지 않도록 행 잠금
+    private User findUserForUpdate(Long userId) {
+        return userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 payload 역직렬화 실패: id=" + event.getId(), e);
+        }
+    }
+}
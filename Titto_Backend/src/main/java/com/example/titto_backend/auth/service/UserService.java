@@ -1,29 +1,37 @@
 package com.example.titto_backend.auth.service;
 
+import com.example.titto_backend.auth.domain.ActivityType;
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.dto.request.SignUpDTO;
 import com.example.titto_backend.auth.dto.request.UserInfoUpdateDTO;
 import com.example.titto_backend.auth.dto.request.UserProfileUpdateDTO;
 import com.example.titto_backend.auth.dto.response.UserInfoDTO;
+import com.example.titto_backend.auth.dto.response.UserPostActivityDto;
 import com.example.titto_backend.auth.dto.response.UserProfileViewDto;
 import com.example.titto_backend.auth.dto.response.UserRankingDto;
+import com.example.titto_backend.auth.repository.UserActivityRepository;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CacheUtil;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
 import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
 import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
+import com.example.titto_backend.matchingBoard.service.matchingBoard.MatchingBoardService;
 import com.example.titto_backend.questionBoard.domain.Answer;
 import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.dto.AnswerInfoDTO;
 import com.example.titto_backend.questionBoard.repository.AnswerRepository;
 import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.example.titto_backend.questionBoard.service.QuestionService;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +44,14 @@ public class UserService {
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
     private final MatchingPostReviewRepository matchingPostReviewRepository;
+    private final UserActivityRepository userActivityRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final CacheUtil cacheUtil;
+    private final BoardPageCache boardPageCache;
+
+    // 작성 글/답글 목록을 user_activity 한 번의 인덱스 범위 조회로 제공 (백필 완료 후 활성화)
+    @Value("${user-activity.read-from-table:false}")
+    private boolean readFromActivityTable;
 
     @Transactional
     public void signUp(SignUpDTO signUpDTO, String email) {
@@ -43,6 +59,7 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         user.signupUser(signUpDTO);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
     }
 
     //유저 정보 불러오기
@@ -63,6 +80,7 @@ public class UserService {
 
         if (requestDTO.getNewNickname() != null) {
             user.setNickname(requestDTO.getNewNickname());
+            cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
         }
     }
 
@@ -74,23 +92,33 @@ public class UserService {
 
         user.setOneLineIntro(userProfileUpdateDTO.getOneLineIntro());
         user.setSelfIntro(userProfileUpdateDTO.getSelfIntro());
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
     }
 
-    // 유저 프로필 조회
+    // 유저 프로필 조회 (수정 시 캐시 제거)
+    @Transactional(readOnly = true)
     public UserProfileViewDto userProfileView(Long userId) {
         if (userId == 1L) {
             throw new CustomException(ErrorCode.USER_NOT_FOUND);
         }
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        return UserProfileViewDto.of(user);
+        return cacheUtil.get(CacheUtil.USER_PROFILE, userId, () -> userRepository.findById(userId)
+                .map(UserProfileViewDto::of)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND)));
     }
 
     // 유저 작성 글 보기
+    @Transactional(readOnly = true)
     public List<Object> userPostsView(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
+        if (readFromActivityTable) {
+            return userActivityRepository.findPosts(user.getId(), ActivityType.QUESTION, ActivityType.MATCHING_POST)
+                    .stream()
+                    .map(UserPostActivityDto::toInfo)
+                    .toList();
+        }
+
         List<Object> questionPosts = new ArrayList<>(questionRepository.findQuestionsInfoByAuthor(user));
         List<Object> matchingPosts = new ArrayList<>(matchingPostRepository.findMatchingPostsInfoByAuthor(user));
 
@@ -99,10 +127,14 @@ public class UserService {
     }
 
     // 유저 작성 답글 보기
+    @Transactional(readOnly = true)
     public List<AnswerInfoDTO> userAnswerView(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
+        if (readFromActivityTable) {
+            return userActivityRepository.findAnswers(user.getId(), ActivityType.ANSWER);
+        }
         return answerRepository.findAnswersInfoByAuthor(user);
     }
 
@@ -122,6 +154,8 @@ public class UserService {
         // 각 질문의 작성자를 dummyUser로 변경
         for (Question question : questions) {
             question.setAuthor(dummyUser);
+            cacheUtil.evict(CacheUtil.QUESTION_DETAIL, question.getId());
+            boardPageCache.invalidate(QuestionService.boardPageKeys(question));
         }
 
         // 유저가 작성한 모든 답변 조회
@@ -130,6 +164,8 @@ public class UserService {
         // 각 답변의 작성자를 dummyUser로 변경
         for (Answer answer : answers) {
             answer.setAuthor(dummyUser);
+            cacheUtil.evict(CacheUtil.QUESTION_DETAIL, answer.getQuestion().getId());
+            boardPageCache.invalidate(QuestionService.boardPageKeys(answer.getQuestion()));
         }
 
         // 유저가 작성한 모든 매칭 포스트 리뷰 조회
@@ -147,22 +183,34 @@ public class UserService {
         // 각 게시글의 작성자를 dummyUser로 변경
         for (MatchingPost post : matchingPosts) {
             post.setUser(dummyUser);
+            cacheUtil.evict(CacheUtil.MATCHING_POST_DETAIL, post.getMatchingPostId());
+            boardPageCache.invalidate(MatchingBoardService.boardPageKeys(post));
         }
 
+        // 활동 테이블의 작성자도 dummyUser로 변경
+        userActivityRepository.reassignUser(user.getId(), dummyUser.getId());
+
         // 유저 삭제
         userRepository.delete(user);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, userId);
+
+        // 발급된 모든 리프레시 토큰 폐기
+        refreshTokenStore.revokeAll(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<UserRankingDto> findUserRanking() {
         return userRepository.findUserByOrderByTotalExperience();
     }
 
     //닉네임 중복 여부
+    @Transactional(readOnly = true)
     public boolean isDuplicatedNickname(String nickname) {
         return userRepository.existsByNickname(nickname);
     }
 
     //학번 중복 여부
+    @Transactional(readOnly = true)
     public boolean isDuplicatedStudentNo(String studentNo) {
         return userRepository.existsByStudentNo(studentNo);
     }
@@ -0,0 +1,46 @@
+package com.example.titto_backend.common.aop;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+// 리포지토리 호출마다 span 생성 (이름: QuestionRepository.findPreviews)
+// 지연 지표는 spring.data.repository.invocations로 이미 기록되므로 Observation이 아닌 span만 만든다
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryTracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = tracer.nextSpan()
+                .name(repositoryName(joinPoint) + "." + joinPoint.getSignature().getName())
+                .tag("db.system", "mysql")
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    // findById 등 상속 메서드도 선언 타입(CrudRepository)이 아닌 실제 리포지토리 인터페이스 이름으로 표시
+    private static String repositoryName(ProceedingJoinPoint joinPoint) {
+        for (Class<?> type : joinPoint.getThis().getClass().getInterfaces()) {
+            if (Repository.class.isAssignableFrom(type)) {
+                return type.getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
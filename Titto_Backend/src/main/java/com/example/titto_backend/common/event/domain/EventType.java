@@ -0,0 +1,17 @@
+package com.example.titto_backend.common.event.domain;
+
+public enum EventType {
+    QUESTION_CREATED,       // 질문 작성
+    QUESTION_UPDATED,       // 질문 수정
+    QUESTION_DELETED,       // 질문 삭제
+    ANSWER_CREATED,         // 답변 작성
+    ANSWER_UPDATED,         // 답변 수정
+    ANSWER_DELETED,         // 답변 삭제
+    ANSWER_ACCEPTED,        // 답변 채택
+    MATCHING_POST_CREATED,  // 매칭 게시글 작성
+    MATCHING_POST_UPDATED,  // 매칭 게시글 수정
+    MATCHING_POST_DELETED,  // 매칭 게시글 삭제
+    REVIEW_CREATED,         // 매칭 게시글 리뷰 작성
+    REVIEW_UPDATED,         // 매칭 게시글 리뷰 수정
+    REVIEW_DELETED          // 매칭 게시글 리뷰 삭제
+}
@@ -0,0 +1,5 @@
+package com.example.titto_backend.common.event.domain;
+
+public enum OutboxStatus {
+    PENDING, DONE, FAILED
+}
@@ -0,0 +1,45 @@
+package com.example.titto_backend.common.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public class DomainEventDTO {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QuestionCreated {
+        private Long questionId;
+        private Long authorId;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnswerCreated {
+        private Long answerId;
+        private Long questionId;
+        private Long answerAuthorId;
+        private int experience;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AnswerAccepted {
+        private Long answerId;
+        private Long questionId;
+        private Long answerAuthorId;
+        private int experience;
+    }
+
+    // 작성/수정/삭제된 글 (활동 테이블은 처리 시점의 원본을 다시 읽어 반영)
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ContentChanged {
+        private Long id;
+        private Long authorId;
+    }
+}
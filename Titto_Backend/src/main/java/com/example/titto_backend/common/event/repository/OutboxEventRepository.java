@@ -0,0 +1,26 @@
+package com.example.titto_backend.common.event.repository;
+
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+import com.example.titto_backend.common.event.domain.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status ORDER BY e.id ASC")
+    List<Long> findIdsByStatus(@Param("status") OutboxStatus status, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id = :id")
+    Optional<OutboxEvent> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT MIN(e.createDate) FROM OutboxEvent e WHERE e.status = :status")
+    Optional<LocalDateTime> findOldestCreateDateByStatus(@Param("status") OutboxStatus status);
+}
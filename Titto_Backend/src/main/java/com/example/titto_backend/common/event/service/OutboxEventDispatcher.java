@@ -0,0 +1,84 @@
+package com.example.titto_backend.common.event.service;
+
+import com.example.titto_backend.common.event.domain.OutboxStatus;
+import com.example.titto_backend.common.event.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class OutboxEventDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventProcessor outboxEventProcessor;
+    private final Executor outboxExecutor;
+
+    // 가장 오래된 미처리 이벤트가 대기한 시간 (ms, outbox.lag 지표)
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.lag-warn-threshold-ms:30000}")
+    private long lagWarnThresholdMillis;
+
+    public OutboxEventDispatcher(OutboxEventRepository outboxEventRepository,
+                                 OutboxEventProcessor outboxEventProcessor,
+                                 @Qualifier("outboxExecutor") Executor outboxExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventProcessor = outboxEventProcessor;
+        this.outboxExecutor = outboxExecutor;
+        Gauge.builder("outbox.lag", lagMillis, AtomicLong::get)
+                .description("가장 오래된 미처리 outbox 이벤트의 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        List<Long> eventIds = outboxEventRepository.findIdsByStatus(OutboxStatus.PENDING, PageRequest.of(0, batchSize));
+
+        if (!eventIds.isEmpty()) {
+            // 배치 단위로 워커 풀에 분배하고, 모두 끝난 뒤 다음 폴링 진행
+            CompletableFuture<?>[] futures = eventIds.stream()
+                    .map(eventId -> CompletableFuture.runAsync(() -> processSafely(eventId), outboxExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        }
+
+        updateLag();
+    }
+
+    private void processSafely(Long eventId) {
+        try {
+            outboxEventProcessor.process(eventId);
+        } catch (Exception e) {
+            log.warn("outbox 이벤트 처리 실패: id={}, cause={}", eventId, e.getMessage());
+            outboxEventProcessor.markFailed(eventId, e.getMessage());
+        }
+    }
+
+    private void updateLag() {
+        long lag = outboxEventRepository.findOldestCreateDateByStatus(OutboxStatus.PENDING)
+                .map(oldest -> Duration.between(oldest, LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        lagMillis.set(lag);
+
+        if (lag > lagWarnThresholdMillis) {
+            log.warn("outbox 처리 지연: {}ms", lag);
+        }
+    }
+}
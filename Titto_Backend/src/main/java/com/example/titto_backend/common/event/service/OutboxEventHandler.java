@@ -0,0 +1,12 @@
+package com.example.titto_backend.common.event.service;
+
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+
+public interface OutboxEventHandler {
+
+    boolean supports(EventType eventType);
+
+    // 이벤트 완료 처리와 같은 트랜잭션에서 실행되므로 재전달되어도 한 번만 반영됨
+    void handle(OutboxEvent event);
+}
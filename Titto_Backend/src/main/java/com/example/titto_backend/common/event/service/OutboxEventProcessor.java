@@ -0,0 +1,43 @@
+package com.example.titto_backend.common.event.service;
+
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+import com.example.titto_backend.common.event.repository.OutboxEventRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventProcessor {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxEventHandler> handlers;
+
+    @Value("${outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 이벤트 행을 잠근 뒤 핸들러 실행과 완료 표시를 하나의 트랜잭션으로 처리
+    @Transactional
+    public void process(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findByIdForUpdate(eventId).orElse(null);
+        if (event == null || !event.isPending()) {
+            return;  // 다른 워커(인스턴스)가 이미 처리함
+        }
+
+        handlers.stream()
+                .filter(handler -> handler.supports(event.getEventType()))
+                .forEach(handler -> handler.handle(event));
+
+        event.markDone();
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailed(Long eventId, String error) {
+        outboxEventRepository.findByIdForUpdate(eventId)
+                .filter(OutboxEvent::isPending)
+                .ifPresent(event -> event.markAttemptFailed(error, maxAttempts));
+    }
+}
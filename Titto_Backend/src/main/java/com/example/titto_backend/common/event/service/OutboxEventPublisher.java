@@ -0,0 +1,37 @@
+package com.example.titto_backend.common.event.service;
+
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+import com.example.titto_backend.common.event.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    // 도메인 변경과 같은 트랜잭션에서 이벤트를 기록 (트랜잭션 밖에서 호출되면 예외)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(EventType eventType, Long aggregateId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(toJson(payload))
+                .build());
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("이벤트 payload 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
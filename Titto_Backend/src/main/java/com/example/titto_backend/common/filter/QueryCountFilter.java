@@ -0,0 +1,62 @@
+package com.example.titto_backend.common.filter;
+
+import com.example.titto_backend.common.util.QueryCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+// 요청당 SQL 문 개수를 엔드포인트별로 기록하고 임계값을 넘으면 경고 (N+1 탐지)
+// http.server.requests.queries{method, uri}, 초과 시 http.server.requests.queries.exceeded
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${query-count.warn-threshold:10}") long warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCounter.end());
+        }
+    }
+
+    private void record(HttpServletRequest request, long count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > warnThreshold) {
+            meterRegistry.counter("http.server.requests.queries.exceeded",
+                    "method", request.getMethod(), "uri", uri).increment();
+            log.warn("요청당 쿼리 수 초과: {} {} ({}회, 임계값 {})", request.getMethod(), uri, count, warnThreshold);
+        }
+    }
+}
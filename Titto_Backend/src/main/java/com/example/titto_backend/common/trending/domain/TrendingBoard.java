@@ -0,0 +1,23 @@
+package com.example.titto_backend.common.trending.domain;
+
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.questionBoard.domain.Department;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인기 글 점수를 따로 관리하는 게시판 (게시판 전체 + 카테고리별 ZSET)
+@Getter
+@AllArgsConstructor
+public enum TrendingBoard {
+    QUESTION("question"),
+    MATCHING_POST("matching-post");
+
+    private final String key;
+
+    public List<String> categories() {
+        Enum<?>[] values = this == QUESTION ? Department.values() : Category.values();
+        return Arrays.stream(values).map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.titto_backend.common.trending.domain;
+
+// 인기 점수에 반영되는 활동 (가중치는 trending.weight.* 설정)
+public enum TrendingSignal {
+    VIEW,     // 조회 (사용자별 하루 한 번)
+    ANSWER,   // 답변 작성
+    REVIEW,   // 매칭 게시글 리뷰 작성
+    ACCEPT    // 답변 채택
+}
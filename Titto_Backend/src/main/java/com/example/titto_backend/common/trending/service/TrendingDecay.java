@@ -0,0 +1,29 @@
+package com.example.titto_backend.common.trending.service;
+
+import java.time.Duration;
+
+// 인기 점수 시간 감쇠 계산 (forward decay, 일 단위 주기의 시작 시각 기준)
+// 점수 = 가중치 * 2^(주기 시작부터 경과 시간 / 반감기), 이전 주기 점수는 carryOverFactor를 곱해 현재 주기 기준으로 옮김
+class TrendingDecay {
+
+    static final long PERIOD_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final double halfLifeMillis;
+
+    TrendingDecay(double halfLifeHours) {
+        this.halfLifeMillis = halfLifeHours * Duration.ofHours(1).toMillis();
+    }
+
+    long period(long epochMillis) {
+        return epochMillis / PERIOD_MILLIS;
+    }
+
+    double increment(double weight, long epochMillis) {
+        long elapsed = epochMillis - period(epochMillis) * PERIOD_MILLIS;
+        return weight * Math.pow(2, elapsed / halfLifeMillis);
+    }
+
+    double carryOverFactor() {
+        return Math.pow(2, -PERIOD_MILLIS / halfLifeMillis);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.titto_backend.common.trending.service;
+
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.domain.OutboxEvent;
+import com.example.titto_backend.common.event.dto.DomainEventDTO;
+import com.example.titto_backend.common.event.service.OutboxEventHandler;
+import com.example.titto_backend.common.trending.domain.TrendingBoard;
+import com.example.titto_backend.common.trending.domain.TrendingSignal;
+import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
+import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 답변/채택/리뷰는 인기 점수에 반영, 삭제된 글은 인기 목록에서 제거 (조회수는 조회 시점에 바로 반영)
+// Redis 반영은 처리 트랜잭션 커밋 이후에 실행 (다른 핸들러 실패로 이벤트가 재시도되어도 점수는 한 번만 더해짐)
+@Service
+@RequiredArgsConstructor
+public class TrendingEventHandler implements OutboxEventHandler {
+
+    private static final Set<EventType> SUPPORTED_TYPES = EnumSet.of(
+            EventType.ANSWER_CREATED, EventType.ANSWER_ACCEPTED, EventType.REVIEW_CREATED,
+            EventType.QUESTION_DELETED, EventType.MATCHING_POST_DELETED);
+
+    private final TrendingScoreService trendingScoreService;
+    private final QuestionRepository questionRepository;
+    private final MatchingPostRepository matchingPostRepository;
+    private final MatchingPostReviewRepository matchingPostReviewRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(EventType eventType) {
+        return SUPPORTED_TYPES.contains(eventType);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        switch (event.getEventType()) {
+            case ANSWER_CREATED -> recordQuestion(
+                    read(event, DomainEventDTO.AnswerCreated.class).getQuestionId(), TrendingSignal.ANSWER);
+            case ANSWER_ACCEPTED -> recordQuestion(
+                    read(event, DomainEventDTO.AnswerAccepted.class).getQuestionId(), TrendingSignal.ACCEPT);
+            case REVIEW_CREATED -> matchingPostReviewRepository.findById(event.getAggregateId())
+                    .map(review -> review.getMatchingPost().getMatchingPostId())
+                    .ifPresent(postId -> matchingPostRepository.findCategoryById(postId)
+                            .ifPresent(category -> afterCommit(() -> trendingScoreService.record(
+                                    TrendingBoard.MATCHING_POST, postId, category.name(), TrendingSignal.REVIEW))));
+            case QUESTION_DELETED ->
+                    afterCommit(() -> trendingScoreService.remove(TrendingBoard.QUESTION, event.getAggregateId()));
+            case MATCHING_POST_DELETED ->
+                    afterCommit(() -> trendingScoreService.remove(TrendingBoard.MATCHING_POST, event.getAggregateId()));
+            default -> {
+            }
+        }
+    }
+
+    // 처리 전에 삭제된 질문은 건너뜀
+    private void recordQuestion(Long questionId, TrendingSignal signal) {
+        questionRepository.findDepartmentById(questionId).ifPresent(department -> afterCommit(() ->
+                trendingScoreService.record(TrendingBoard.QUESTION, questionId, department.name(), signal)));
+    }
+
+    private void afterCommit(Runnable redisWrite) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            redisWrite.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisWrite.run();
+            }
+        });
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 payload 역직렬화 실패: id=" + event.getId(), e);
+        }
+    }
+}
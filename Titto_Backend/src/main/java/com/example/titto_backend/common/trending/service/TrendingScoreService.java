@@ -0,0 +1,136 @@
+package com.example.titto_backend.common.trending.service;
+
+import com.example.titto_backend.common.trending.domain.TrendingBoard;
+import com.example.titto_backend.common.trending.domain.TrendingSignal;
+import com.example.titto_backend.common.util.RedisUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+// 시간 감쇠 인기 점수 (게시판/카테고리별 ZSET, 상위 N개 조회는 ZREVRANGE 한 번)
+// trending:{게시판}:{카테고리|all}:{일 단위 주기} -> 게시글 ID ZSET
+// 점수는 가중치 * 2^(주기 시작부터 경과 시간 / 반감기)로 더해 나중 활동일수록 크게 반영 (forward decay)
+// 이전 주기 ZSET은 다음 주기 첫 접근 때 2^(-1일 / 반감기)를 곱해 합치므로 점수가 무한히 커지지 않음
+@Service
+@RequiredArgsConstructor
+public class TrendingScoreService {
+
+    public static final int DEFAULT_SIZE = 10;
+    private static final int MAX_SIZE = 50;
+
+    private static final String KEY_PREFIX = "trending:";
+    private static final String ALL = "all";
+    private static final long TTL_SECONDS = Duration.ofDays(2).toSeconds();
+    private static final String SITE = "trending";
+
+    // KEYS: (현재 주기 키, 이전 주기 키) 쌍, ARGV: 게시글 ID, 증가량, 이전 주기 감쇠 계수, TTL, 유지 개수
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #KEYS, 2 do
+                if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+                    redis.call('ZUNIONSTORE', KEYS[i], 2, KEYS[i], KEYS[i + 1], 'WEIGHTS', 1, ARGV[3])
+                    redis.call('DEL', KEYS[i + 1])
+                end
+                redis.call('ZINCRBY', KEYS[i], ARGV[2], ARGV[1])
+                redis.call('ZREMRANGEBYRANK', KEYS[i], 0, -ARGV[5] - 1)
+                redis.call('EXPIRE', KEYS[i], ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS: 현재 주기 키, 이전 주기 키, ARGV: 이전 주기 감쇠 계수, TTL, 조회 개수
+    private static final RedisScript<List> TOP_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'WEIGHTS', 1, ARGV[1])
+                redis.call('DEL', KEYS[2])
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            return redis.call('ZREVRANGE', KEYS[1], 0, ARGV[3] - 1)
+            """, List.class);
+
+    private final RedisUtil redisUtil;
+
+    @Value("${trending.half-life-hours:6}")
+    private double halfLifeHours;
+
+    @Value("${trending.max-size:1000}")
+    private int maxSize;
+
+    @Value("${trending.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${trending.weight.answer:5}")
+    private double answerWeight;
+
+    @Value("${trending.weight.review:3}")
+    private double reviewWeight;
+
+    @Value("${trending.weight.accept:10}")
+    private double acceptWeight;
+
+    // 점수 집계 실패는 요청 처리에 영향을 주지 않음
+    public void record(TrendingBoard board, Long postId, String category, TrendingSignal signal) {
+        TrendingDecay decay = new TrendingDecay(halfLifeHours);
+        long now = System.currentTimeMillis();
+        long period = decay.period(now);
+        double increment = decay.increment(weight(signal), now);
+
+        List<String> keys = List.of(
+                key(board, ALL, period), key(board, ALL, period - 1),
+                key(board, category, period), key(board, category, period - 1));
+        redisUtil.runOrSkip(SITE, () -> redisUtil.executeScript(INCREMENT_SCRIPT, keys,
+                String.valueOf(postId), String.valueOf(increment), String.valueOf(decay.carryOverFactor()),
+                String.valueOf(TTL_SECONDS), String.valueOf(maxSize)));
+    }
+
+    // 점수 순 게시글 ID (category가 null이면 게시판 전체), Redis를 사용할 수 없으면 빈 목록
+    public List<Long> top(TrendingBoard board, String category, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        TrendingDecay decay = new TrendingDecay(halfLifeHours);
+        long period = decay.period(System.currentTimeMillis());
+        String scope = category == null ? ALL : category;
+
+        List<?> members = redisUtil.fallback(SITE, () -> redisUtil.executeScript(TOP_SCRIPT,
+                List.of(key(board, scope, period), key(board, scope, period - 1)),
+                String.valueOf(decay.carryOverFactor()), String.valueOf(TTL_SECONDS), String.valueOf(limit)), List::of);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream()
+                .map(member -> Long.valueOf(String.valueOf(member)))
+                .toList();
+    }
+
+    // 삭제된 게시글은 모든 카테고리 ZSET에서 한 번의 왕복으로 제거
+    public void remove(TrendingBoard board, Long postId) {
+        long period = new TrendingDecay(halfLifeHours).period(System.currentTimeMillis());
+        List<String> keys = new ArrayList<>();
+        List<String> scopes = new ArrayList<>(board.categories());
+        scopes.add(ALL);
+        for (String scope : scopes) {
+            keys.add(key(board, scope, period));
+            keys.add(key(board, scope, period - 1));
+        }
+
+        String member = String.valueOf(postId);
+        redisUtil.runOrSkip(SITE, () -> redisUtil.pipeline(keys.get(0),
+                operations -> keys.forEach(key -> operations.opsForZSet().remove(key, member))));
+    }
+
+    private double weight(TrendingSignal signal) {
+        return switch (signal) {
+            case VIEW -> viewWeight;
+            case ANSWER -> answerWeight;
+            case REVIEW -> reviewWeight;
+            case ACCEPT -> acceptWeight;
+        };
+    }
+
+    private static String key(TrendingBoard board, String scope, long period) {
+        return KEY_PREFIX + board.getKey() + ":" + scope + ":" + period;
+    }
+}
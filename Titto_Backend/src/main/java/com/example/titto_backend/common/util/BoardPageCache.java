@@ -0,0 +1,158 @@
+package com.example.titto_backend.common.util;
+
+import com.example.titto_backend.auth.config.ReplicationRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 게시판 첫 페이지(전체, 카테고리/상태별) 응답 JSON 2단계 캐시
+// L1: 서버별 Caffeine, L2: Redis (boardPage:{게시판}:{필터})
+// 게시글 쓰기 시 영향받는 키만 커밋 이후 제거하고, 다른 서버의 L1은 Redis pub/sub으로 제거
+// 제거할 때 키별 세대(boardPageGen:{게시판}:{필터})를 올리고, 조회 시작 시점의 세대가 그대로일 때만 L2에 저장
+// (제거 이전에 조회한 페이지가 제거 이후에 늦게 저장되는 경쟁 방지)
+// 캐시 적중 시에는 트랜잭션(DB 커넥션), JPA 조회, 엔티티 -> JSON 매핑을 모두 건너뜀
+@Service
+public class BoardPageCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "boardPage:";
+    // 세대 키는 게시판/필터 조합 수만큼만 생기므로 만료시키지 않음
+    private static final String GENERATION_KEY_PREFIX = "boardPageGen:";
+    private static final String INVALIDATION_CHANNEL = "boardPageInvalidation";
+    private static final String NO_GENERATION = "0";
+
+    // KEYS: [페이지 키, 세대 키], ARGV: [JSON, TTL(초), 조회 시작 시점의 세대]
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[3] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: [페이지 키, 세대 키]
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final RedisUtil redisUtil;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CachedJson> localCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long redisTtlSeconds;
+
+    public BoardPageCache(RedisUtil redisUtil, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          PlatformTransactionManager transactionManager,
+                          RedisMessageListenerContainer redisMessageListenerContainer,
+                          @Value("${cache.board-page.local-ttl-seconds:5}") long localTtlSeconds,
+                          @Value("${cache.board-page.redis-ttl-seconds:60}") long redisTtlSeconds) {
+        this.redisUtil = redisUtil;
+        this.objectMapper = objectMapper;
+        this.redisTtlSeconds = redisTtlSeconds;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(1000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "boardPage");
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // page가 0일 때만 캐시, 그 외 페이지는 매번 조회
+    // loader(조회 및 직렬화)는 읽기 전용 트랜잭션 안에서 실행
+    public CachedJson get(String key, int page, Supplier<Object> loader) {
+        if (page != 0) {
+            return load(loader);
+        }
+        return localCache.get(key, k -> loadFromRedis(k, loader));
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋 이후에 제거 (커밋 전 이전 데이터가 다시 적재되는 것 방지)
+    public void invalidate(Collection<String> keys) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<String> pendingKeys = new LinkedHashSet<>(keys);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(pendingKeys);
+                }
+            });
+            return;
+        }
+        evict(new LinkedHashSet<>(keys));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private CachedJson loadFromRedis(String key, Supplier<Object> loader) {
+        String redisKey = KEY_PREFIX + key;
+        String json = redisUtil.fallback("boardPage", () -> redisUtil.getData(redisKey), () -> null);
+        if (json != null) {
+            return new CachedJson(json);
+        }
+
+        // DB 조회 전에 세대를 읽어 둠 (조회 중 제거가 일어나면 세대가 달라져 저장하지 않음)
+        String generation = redisUtil.fallback("boardPage",
+                () -> Objects.requireNonNullElse(redisUtil.getData(GENERATION_KEY_PREFIX + key), NO_GENERATION),
+                () -> null);
+
+        // 무효화 직후의 캐시 미스일 수 있으므로 프라이머리에서 읽음 (레플리카의 이전 페이지가 다시 캐시되지 않도록)
+        CachedJson cachedJson = ReplicationRoutingDataSource.readFromPrimary(() -> load(loader));
+        if (generation != null) {
+            redisUtil.runOrSkip("boardPage", () -> redisUtil.executeScript(PUT_SCRIPT,
+                    List.of(redisKey, GENERATION_KEY_PREFIX + key),
+                    cachedJson.getJson(), String.valueOf(redisTtlSeconds), generation));
+        }
+        return cachedJson;
+    }
+
+    private void evict(Collection<String> keys) {
+        for (String key : keys) {
+            redisUtil.runOrSkip("boardPage", () -> {
+                redisUtil.executeScript(EVICT_SCRIPT, List.of(KEY_PREFIX + key, GENERATION_KEY_PREFIX + key));
+                redisUtil.publish(INVALIDATION_CHANNEL, key);
+            });
+            // L2 제거 이후에 L1을 제거 (그 사이 L2의 이전 페이지가 L1에 다시 적재되지 않도록)
+            localCache.invalidate(key);
+        }
+    }
+
+    private CachedJson load(Supplier<Object> loader) {
+        return readOnlyTransaction.execute(status -> {
+            try {
+                return new CachedJson(objectMapper.writeValueAsString(loader.get()));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("게시판 응답 직렬화 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.titto_backend.common.util;
+
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+// 읽기 위주 조회 결과(DTO)의 로컬 캐시 접근
+// 조회 메서드 안에 조회수 집계 등 부수 효과가 있어 @Cacheable 대신 직접 조회/적재
+@Service
+@RequiredArgsConstructor
+public class CacheUtil {
+
+    // 사용자 ID -> UserProfileViewDto
+    public static final String USER_PROFILE = "userProfile";
+    // 질문 ID -> QuestionDTO.Response (답변 목록 포함)
+    public static final String QUESTION_DETAIL = "questionDetail";
+    // 매칭 게시글 ID -> MatchingPostResponseDto
+    public static final String MATCHING_POST_DETAIL = "matchingPostDetail";
+
+    private final CacheManager cacheManager;
+
+    // 캐시에 없으면 loader로 적재 (같은 키의 동시 적재는 한 번만 수행)
+    public <T> T get(String cacheName, Object key, Callable<T> loader) {
+        try {
+            return cache(cacheName).get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            // loader에서 발생한 CustomException 등은 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋 이후에 반영됨
+    public void put(String cacheName, Object key, Object value) {
+        cache(cacheName).put(key, value);
+    }
+
+    // 트랜잭션 안에서 호출하면 커밋 이후에 제거됨
+    public void evict(String cacheName, Object key) {
+        if (key != null) {
+            cache(cacheName).evict(key);
+        }
+    }
+
+    private Cache cache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new IllegalStateException("등록되지 않은 캐시: " + cacheName);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.titto_backend.common.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.IOException;
+import lombok.Getter;
+
+// 미리 직렬화된 JSON 응답 (Jackson 컨버터가 다시 매핑하지 않고 그대로 출력)
+// ETag는 본문 다이제스트로 한 번만 계산 (캐시된 인스턴스는 요청마다 재사용)
+@Getter
+@Schema(type = "object", description = "직렬화된 JSON 응답")
+public class CachedJson implements JsonSerializable {
+
+    private final String json;
+    private final String etag;
+
+    public CachedJson(String json) {
+        this.json = json;
+        this.etag = "W/\"" + HashUtil.sha256(json) + "\"";
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(json);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+}
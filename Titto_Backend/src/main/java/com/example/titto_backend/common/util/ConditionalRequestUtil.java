@@ -0,0 +1,35 @@
+package com.example.titto_backend.common.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+// 조건부 요청(If-None-Match / If-Modified-Since) 처리
+// Spring Security 기본 Cache-Control(no-store)이면 브라우저가 응답을 저장하지 않아 재검증 요청이 오지 않으므로,
+// 사용자별로만 저장하고 매번 재검증하도록 Cache-Control을 먼저 지정
+public final class ConditionalRequestUtil {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalRequestUtil() {
+    }
+
+    // 변경이 없으면 true (304 상태와 ETag 헤더가 설정됨, 컨트롤러는 본문 없이 반환)
+    public static boolean checkNotModified(ServletWebRequest request, String etag) {
+        setRevalidate(request);
+        return request.checkNotModified(etag);
+    }
+
+    public static boolean checkNotModified(ServletWebRequest request, String etag, long lastModifiedMillis) {
+        setRevalidate(request);
+        return request.checkNotModified(etag, lastModifiedMillis);
+    }
+
+    private static void setRevalidate(ServletWebRequest request) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        }
+    }
+}
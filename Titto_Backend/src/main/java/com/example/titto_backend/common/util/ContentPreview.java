@@ -0,0 +1,24 @@
+package com.example.titto_backend.common.util;
+
+// 목록 응답용 본문 미리보기
+// 쿼리에서 SUBSTRING(content, 1, FETCH_LENGTH)로 한 글자 더 가져와 잘림 여부를 판단 (LONGTEXT 전체를 전송하지 않음)
+public final class ContentPreview {
+
+    public static final int LENGTH = 200;
+    public static final int FETCH_LENGTH = LENGTH + 1;
+
+    private ContentPreview() {
+    }
+
+    // MySQL SUBSTRING은 코드 포인트 단위이므로 서로게이트 쌍이 잘리지 않도록 코드 포인트 기준으로 자름
+    public static String of(String fetched) {
+        if (!isTruncated(fetched)) {
+            return fetched;
+        }
+        return fetched.substring(0, fetched.offsetByCodePoints(0, LENGTH));
+    }
+
+    public static boolean isTruncated(String fetched) {
+        return fetched != null && fetched.codePointCount(0, fetched.length()) > LENGTH;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.titto_backend.common.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.Getter;
+
+// 본문을 읽지 않고 조회한 리소스 수정 시각 (조건부 요청의 ETag / Last-Modified 계산용)
+// 조회수는 응답마다 바뀌므로 포함하지 않음
+@Getter
+public class ContentVersion {
+
+    // 리소스 자체의 수정 시각
+    private final LocalDateTime updateDate;
+    // 응답에 함께 담기는 항목(답변, 작성자 닉네임/프로필/레벨 등)까지 포함한 가장 최근 수정 시각
+    private final LocalDateTime lastModified;
+
+    public ContentVersion(LocalDateTime updateDate) {
+        this(updateDate, null);
+    }
+
+    public ContentVersion(LocalDateTime updateDate, LocalDateTime relatedUpdateDate) {
+        this(updateDate, relatedUpdateDate, null, null);
+    }
+
+    // JPQL 생성자 표현식에서 사용 (답변, 작성자, 답변 작성자 수정 시각)
+    public ContentVersion(LocalDateTime updateDate, LocalDateTime childUpdateDate,
+                          LocalDateTime authorUpdateDate, LocalDateTime childAuthorUpdateDate) {
+        this.updateDate = updateDate;
+        this.lastModified = Stream.of(childUpdateDate, authorUpdateDate, childAuthorUpdateDate)
+                .filter(Objects::nonNull)
+                .reduce(updateDate, (latest, date) -> date.isAfter(latest) ? date : latest);
+    }
+
+    // 캐시된 응답이 이 버전과 같은지 확인 (리소스와 함께 담긴 항목의 수정 시각 모두 비교)
+    public boolean isSameAs(ContentVersion other) {
+        return Objects.equals(updateDate, other.updateDate) && Objects.equals(lastModified, other.lastModified);
+    }
+
+    // 압축 등으로 바이트가 달라져도 같은 리소스로 취급하도록 weak ETag 사용
+    public String getEtag() {
+        return "W/\"" + Long.toHexString(toEpochMilli(updateDate)) + "-" + Long.toHexString(toEpochMilli(lastModified)) + "\"";
+    }
+
+    public long getLastModifiedMillis() {
+        return toEpochMilli(lastModified);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.titto_backend.common.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 현재 스레드(요청)에서 Hibernate가 준비한 SQL 문 개수 집계
+// session_factory.statement_inspector로 등록되며 begin()~end() 사이에만 센다 (스케줄러 등 요청 밖 쿼리는 무시)
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    public static void begin() {
+        COUNT.set(new long[1]);
+    }
+
+    public static long count() {
+        long[] count = COUNT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public static long end() {
+        long count = count();
+        COUNT.remove();
+        return count;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -1,24 +1,200 @@
 package com.example.titto_backend.common.util;
 
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+// 애플리케이션의 모든 Redis 접근은 이 클래스를 거침
+// 명령마다 redis.command 타이머(op, keyspace=키 접두사)와 span을 기록해 호출 지점별 지연을 구분
+// 서킷 브레이커를 거치며, Redis 장애/타임아웃은 REDIS_UNAVAILABLE(503)로 변환 (폴백이 필요한 곳은 fallback/runOrSkip 사용)
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisUtil {
+
+    private static final String METRIC_NAME = "redis.command";
+    private static final String UNKNOWN_KEYSPACE = "other";
+
     private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final Tracer tracer;
 
     public String getData(String key) {
-        ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
-        return valueOperations.get(key);
+        return record("get", key, () -> stringRedisTemplate.opsForValue().get(key));
     }
 
     public void setDateExpire(String key, String value, long duration) {
-        ValueOperations<String, String> valueOperations = stringRedisTemplate.opsForValue();
         Duration expireDuration = Duration.ofSeconds(duration);
-        valueOperations.set(key, value, expireDuration);
+        recordRun("set", key, () -> stringRedisTemplate.opsForValue().set(key, value, expireDuration));
+    }
+
+    public void setDataExpireMillis(String key, String value, long durationMillis) {
+        Duration expireDuration = Duration.ofMillis(durationMillis);
+        recordRun("set", key, () -> stringRedisTemplate.opsForValue().set(key, value, expireDuration));
+    }
+
+    // SET NX EX: 키가 없을 때만 저장, 저장했으면 true
+    public boolean setIfAbsent(String key, String value, long duration) {
+        Duration expireDuration = Duration.ofSeconds(duration);
+        return Boolean.TRUE.equals(record("setnx", key,
+                () -> stringRedisTemplate.opsForValue().setIfAbsent(key, value, expireDuration)));
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(record("exists", key, () -> stringRedisTemplate.hasKey(key)));
+    }
+
+    // 여러 키를 EXISTS 한 번으로 확인
+    public boolean hasAnyKey(Collection<String> keys) {
+        String firstKey = keys.iterator().next();
+        Long count = record("exists", firstKey, () -> stringRedisTemplate.countExistingKeys(keys));
+        return count != null && count > 0;
+    }
+
+    public void delete(String key) {
+        record("del", key, () -> stringRedisTemplate.delete(key));
+    }
+
+    public long incrementHash(String key, String field, long delta) {
+        Long value = record("hincrby", key, () -> stringRedisTemplate.opsForHash().increment(key, field, delta));
+        return value == null ? 0 : value;
+    }
+
+    public long deleteHashField(String key, String field) {
+        Long removed = record("hdel", key, () -> stringRedisTemplate.opsForHash().delete(key, field));
+        return removed == null ? 0 : removed;
+    }
+
+    public String getHashValue(String key, String field) {
+        return record("hget", key, () -> stringRedisTemplate.<String, String>opsForHash().get(key, field));
+    }
+
+    public Map<String, String> getHashEntries(String key) {
+        return record("hgetall", key, () -> stringRedisTemplate.<String, String>opsForHash().entries(key));
+    }
+
+    public void addToSet(String key, String member) {
+        record("sadd", key, () -> stringRedisTemplate.opsForSet().add(key, member));
+    }
+
+    // 중복 없이 최대 count개 조회 (제거하지 않음)
+    public List<String> getRandomSetMembers(String key, long count) {
+        return record("srandmember", key, () -> stringRedisTemplate.opsForSet().distinctRandomMembers(key, count))
+                .stream().toList();
+    }
+
+    public void removeFromSet(String key, Collection<String> members) {
+        record("srem", key, () -> stringRedisTemplate.opsForSet().remove(key, members.toArray()));
+    }
+
+    public void publish(String channel, String message) {
+        record("publish", channel, () -> stringRedisTemplate.convertAndSend(channel, message));
+    }
+
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return record("eval", keys.get(0), () -> stringRedisTemplate.execute(script, keys, args));
+    }
+
+    // 여러 명령을 한 번의 왕복으로 전송 (응답은 사용하지 않음)
+    // key는 메트릭 태그로 쓸 대표 키
+    public void pipeline(String key, Consumer<RedisOperations<String, String>> commands) {
+        record("pipeline", key, () -> stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                commands.accept(operations);
+                return null;
+            }
+        }));
+    }
+
+    // Redis를 사용할 수 없으면 fallback 결과를 사용 (site: redis.fallback 메트릭 태그)
+    public <T> T fallback(String site, Supplier<T> redisCall, Supplier<T> fallback) {
+        try {
+            return redisCall.get();
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.REDIS_UNAVAILABLE) {
+                throw e;
+            }
+            meterRegistry.counter("redis.fallback", "site", site).increment();
+            return fallback.get();
+        }
+    }
+
+    // 실패해도 요청 처리에 영향이 없는 쓰기 (카운터, 캐시 등)
+    public void runOrSkip(String site, Runnable redisCall) {
+        fallback(site, () -> {
+            redisCall.run();
+            return null;
+        }, () -> null);
+    }
+
+    private <T> T record(String op, String key, Supplier<T> command) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Span span = tracer.nextSpan()
+                .name("redis " + op)
+                .tag("db.system", "redis")
+                .tag("redis.keyspace", keyspace(key))
+                .start();
+        String outcome = "success";
+        try {
+            return redisCircuitBreaker.executeSupplier(command);
+        } catch (CallNotPermittedException e) {
+            outcome = "rejected";
+            span.error(e);
+            throw new CustomException(ErrorCode.REDIS_UNAVAILABLE);
+        } catch (DataAccessException e) {
+            outcome = "error";
+            span.error(e);
+            log.warn("Redis 명령 실패 ({} {}): {}", op, keyspace(key), e.getMessage());
+            throw new CustomException(ErrorCode.REDIS_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            outcome = "error";
+            span.error(e);
+            throw e;
+        } finally {
+            span.tag("outcome", outcome).end();
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .tag("op", op)
+                    .tag("keyspace", keyspace(key))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private void recordRun(String op, String key, Runnable command) {
+        record(op, key, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    // 태그 카디널리티를 제한하기 위해 첫 ':' 앞부분만 사용 (토큰 원문 키 등은 other)
+    private static String keyspace(String key) {
+        int separator = key.indexOf(':');
+        if (separator > 0) {
+            return key.substring(0, separator);
+        }
+        return key.indexOf('.') < 0 && key.length() <= 32 ? key : UNKNOWN_KEYSPACE;
     }
 }
@@ -0,0 +1,31 @@
+package com.example.titto_backend.common.util;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 초당 maxPerSecond개까지만 통과시키는 logback 필터 (logback-spring.xml의 느린 쿼리 appender에서 사용)
+// 초가 바뀌는 순간의 경합으로 약간 더 통과할 수 있지만 로그 샘플링 용도라 허용
+public class SamplingLogFilter extends Filter<ILoggingEvent> {
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger countInSecond = new AtomicInteger();
+
+    private int maxPerSecond = 5;
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        long second = event.getTimeStamp() / 1000;
+        long previous = currentSecond.get();
+        if (previous != second && currentSecond.compareAndSet(previous, second)) {
+            countInSecond.set(0);
+        }
+        return countInSecond.incrementAndGet() <= maxPerSecond ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.titto_backend.matchingBoard.controller;
 
+import com.example.titto_backend.common.trending.service.TrendingScoreService;
+import com.example.titto_backend.common.util.CachedJson;
+import com.example.titto_backend.common.util.ConditionalRequestUtil;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPagingResponseDto;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPreviewDto;
 import com.example.titto_backend.matchingBoard.service.matchingBoard.MatchingBoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/matching-board")
@@ -26,13 +32,18 @@ public class MatchingBoardController {
             description = "매칭 게시판의 전체 게시글을 조회합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match)"),
                     @ApiResponse(responseCode = "403", description = "인증 문제 발생"),
                     @ApiResponse(responseCode = "500", description = "관리자 문의")
             })
-    public ResponseEntity<MatchingPostPagingResponseDto> getAllMatchingPosts(
-            @RequestParam("page") int page
+    public ResponseEntity<CachedJson> getAllMatchingPosts(
+            @RequestParam("page") int page,
+            ServletWebRequest webRequest
     ) {
-        MatchingPostPagingResponseDto response = matchingBoardService.findAllPosts(page);
+        CachedJson response = matchingBoardService.findAllPosts(page);
+        if (ConditionalRequestUtil.checkNotModified(webRequest, response.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(response);
     }
 
@@ -57,13 +68,32 @@ public class MatchingBoardController {
             description = "카테고리 별로 결과를 출력합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match)"),
                     @ApiResponse(responseCode = "403", description = "인증 문제 발생"),
                     @ApiResponse(responseCode = "500", description = "관리자 문의")
             })
-    public ResponseEntity<MatchingPostPagingResponseDto> findByCategory(@RequestParam("page") int page,
-                                                                        @RequestParam String category) {
-        MatchingPostPagingResponseDto response = matchingBoardService.findByCategory(page, category);
+    public ResponseEntity<CachedJson> findByCategory(@RequestParam("page") int page,
+                                                     @RequestParam String category,
+                                                     ServletWebRequest webRequest) {
+        CachedJson response = matchingBoardService.findByCategory(page, category);
+        if (ConditionalRequestUtil.checkNotModified(webRequest, response.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/trending")
+    @Operation(
+            summary = "매칭 게시판 인기 게시글 조회",
+            description = "최근 조회, 리뷰가 많은 게시글을 점수 순으로 조회합니다 (category를 생략하면 전체)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<MatchingPostPreviewDto>> getTrendingPosts(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "" + TrendingScoreService.DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(matchingBoardService.findTrending(category, size));
+    }
+
 }
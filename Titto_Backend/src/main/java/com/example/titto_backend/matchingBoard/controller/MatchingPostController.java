@@ -1,5 +1,7 @@
 package com.example.titto_backend.matchingBoard.controller;
 
+import com.example.titto_backend.common.util.ConditionalRequestUtil;
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.matchingBoard.dto.request.MatchingPostRequest.MatchingPostCreateRequestDto;
 import com.example.titto_backend.matchingBoard.dto.request.MatchingPostRequest.MatchingPostUpdateRequestDto;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostCreateResponseDto;
@@ -24,6 +26,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/matching-post")
@@ -55,12 +58,20 @@ public class MatchingPostController {
             description = "특정 매칭 게시글을 조회합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)"),
                     @ApiResponse(responseCode = "400", description = "잘못된 요청"),
                     @ApiResponse(responseCode = "500", description = "관리자 문의")
             })
     public ResponseEntity<MatchingPostResponseDto> findMatchingPostByMatchingPostId(Principal principal,
-                                                                                    @PathVariable Long matchingPostId) {
-        MatchingPostResponseDto responseDto = matchingPostService.findByMatchingPostId(principal, matchingPostId);
+                                                                                    @PathVariable Long matchingPostId,
+                                                                                    ServletWebRequest webRequest) {
+        ContentVersion version = matchingPostService.recordView(principal, matchingPostId);
+        // 변경이 없으면 본문을 조회하지 않고 304 응답 (ETag, Last-Modified 헤더는 여기서 설정됨)
+        if (ConditionalRequestUtil.checkNotModified(webRequest, version.getEtag(),
+                version.getLastModifiedMillis())) {
+            return null;
+        }
+        MatchingPostResponseDto responseDto = matchingPostService.findByMatchingPostId(matchingPostId, version);
         return new ResponseEntity<>(responseDto, HttpStatus.OK);
     }
 
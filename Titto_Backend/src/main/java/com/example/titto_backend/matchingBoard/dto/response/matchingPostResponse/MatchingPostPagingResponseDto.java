@@ -1,6 +1,5 @@
 package com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse;
 
-import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,13 +14,13 @@ import java.util.List;
 @Builder
 public class MatchingPostPagingResponseDto {
 
-    private List<MatchingPost> content;
+    private List<MatchingPostPreviewDto> content;
     private int totalPages;
     private long totalElements;
     private int pageNumber;
     private boolean existNextPage;
 
-    public static MatchingPostPagingResponseDto from(Page<MatchingPost> postPages) {
+    public static MatchingPostPagingResponseDto from(Page<MatchingPostPreviewDto> postPages) {
         return MatchingPostPagingResponseDto.builder()
                 .content(postPages.getContent())
                 .totalPages(postPages.getTotalPages())
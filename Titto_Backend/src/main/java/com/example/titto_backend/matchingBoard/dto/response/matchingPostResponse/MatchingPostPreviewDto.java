@@ -0,0 +1,50 @@
+package com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse;
+
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 매칭 게시판 목록 조회용 (본문은 미리보기만, 전체 내용은 상세 조회에서 제공)
+@Getter
+@NoArgsConstructor
+public class MatchingPostPreviewDto {
+
+    private Long matchingPostId;
+    private Long matchingPostAuthorId;
+    private String authorNickName;
+    private String profile;
+    private Integer level;
+    private String category;
+    private String status;
+    private String title;
+    private String preview;
+    private boolean truncated;
+    private Integer viewCount;
+    private Integer reviewCount;
+    private LocalDateTime createDate;
+    private LocalDateTime updateDate;
+
+    // MatchingPostRepository의 JPQL 생성자 표현식에서 사용
+    public MatchingPostPreviewDto(Long matchingPostId, Long matchingPostAuthorId, String authorNickName,
+                                  String profile, Integer level, Category category, Status status, String title,
+                                  String content, Integer viewCount, Integer reviewCount,
+                                  LocalDateTime createDate, LocalDateTime updateDate) {
+        this.matchingPostId = matchingPostId;
+        this.matchingPostAuthorId = matchingPostAuthorId;
+        this.authorNickName = authorNickName;
+        this.profile = profile;
+        this.level = level;
+        this.category = String.valueOf(category);
+        this.status = String.valueOf(status);
+        this.title = title;
+        this.preview = ContentPreview.of(content);
+        this.truncated = ContentPreview.isTruncated(content);
+        this.viewCount = viewCount;
+        this.reviewCount = reviewCount;
+        this.createDate = createDate;
+        this.updateDate = updateDate;
+    }
+}
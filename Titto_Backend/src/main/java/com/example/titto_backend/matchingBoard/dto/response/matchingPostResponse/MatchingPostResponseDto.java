@@ -1,6 +1,8 @@
 package com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse;
 
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +28,10 @@ public class MatchingPostResponseDto {
     private LocalDateTime updateDate;
     private Integer level;
 
+    // 응답에 담긴 작성자 정보의 버전 (직렬화하지 않음)
+    @JsonIgnore
+    private LocalDateTime authorUpdateDate;
+
     public static MatchingPostResponseDto of(
             MatchingPost matchingPost) {
         return new MatchingPostResponseDto(
@@ -40,7 +46,13 @@ public class MatchingPostResponseDto {
                 matchingPost.getViewCount(),
                 matchingPost.getReviewCount(),
                 matchingPost.getUpdateDate(),
-                matchingPost.getUser().getLevel());
+                matchingPost.getUser().getLevel(),
+                matchingPost.getUser().getUpdateDate());
+    }
+
+    // 응답에 담긴 게시물과 작성자의 수정 시각 (캐시된 응답이 ETag와 같은 버전인지 확인용)
+    public ContentVersion contentVersion() {
+        return new ContentVersion(updateDate, authorUpdateDate);
     }
 
 }
@@ -1,29 +1,79 @@
 package com.example.titto_backend.matchingBoard.repository.matchingBoard;
 
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostInfoDto;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPreviewDto;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface MatchingPostRepository extends JpaRepository<MatchingPost, Long> {
-    Page<MatchingPost> findByTitleContaining(String keyword, Pageable pageable);
+    // 목록 조회는 본문 미리보기만 가져옴 (작성자 엔티티와 LONGTEXT 본문을 직렬화하지 않음)
+    String PREVIEW_SELECT = "SELECT new com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse"
+            + ".MatchingPostPreviewDto(a.matchingPostId, u.id, u.nickname, u.profile, u.level, a.category, a.status,"
+            + " a.title, SUBSTRING(a.content, 1, " + ContentPreview.FETCH_LENGTH + "),"
+            + " a.viewCount, a.reviewCount, a.createDate, a.updateDate) "
+            + "FROM MatchingPost a JOIN a.user u";
 
-    Page<MatchingPost> findByCategory(Category category, Pageable pageable);
+    @Query(value = PREVIEW_SELECT + " ORDER BY a.createDate DESC",
+            countQuery = "SELECT COUNT(a) FROM MatchingPost a")
+    Page<MatchingPostPreviewDto> findPreviews(Pageable pageable);
+
+    @Query(value = PREVIEW_SELECT + " WHERE a.title LIKE CONCAT('%', :keyword, '%') ORDER BY a.createDate DESC",
+            countQuery = "SELECT COUNT(a) FROM MatchingPost a WHERE a.title LIKE CONCAT('%', :keyword, '%')")
+    Page<MatchingPostPreviewDto> findPreviewsByTitleContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = PREVIEW_SELECT + " WHERE a.category = :category ORDER BY a.createDate DESC",
+            countQuery = "SELECT COUNT(a) FROM MatchingPost a WHERE a.category = :category")
+    Page<MatchingPostPreviewDto> findPreviewsByCategory(@Param("category") Category category, Pageable pageable);
+
+    // 인기 글 목록 (ID는 Redis 점수 순, 정렬은 호출하는 쪽에서 맞춤)
+    @Query(PREVIEW_SELECT + " WHERE a.matchingPostId IN :ids")
+    List<MatchingPostPreviewDto> findPreviewsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("SELECT new com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostInfoDto("
-            + "a.matchingPostId, a.title, a.content, "
+            + "a.matchingPostId, a.title, SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "), "
             + "a.createDate, a.viewCount, a.reviewCount, a.category) "
             + "FROM MatchingPost a"
             + " WHERE a.user = :user")
     List<MatchingPostInfoDto> findMatchingPostsInfoByAuthor(@Param("user") User user);
 
     List<MatchingPost> findMatchingPostByUser(User user);
+
+    // 활동 피드용 키셋 조회 (작성자, 작성일, ID 인덱스를 역순으로 스캔)
+    @Query("SELECT new com.example.titto_backend.auth.dto.response.UserActivityDto('MATCHING_POST', a.matchingPostId, a.title,"
+            + " SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "), a.matchingPostId, a.createDate) "
+            + "FROM MatchingPost a"
+            + " WHERE a.user.id = :userId"
+            + " AND (a.createDate < :cursorDate OR (a.createDate = :cursorDate AND a.matchingPostId < :cursorId))"
+            + " ORDER BY a.createDate DESC, a.matchingPostId DESC")
+    List<UserActivityDto> findActivitiesByAuthor(@Param("userId") Long userId,
+                                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                                 @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 본문 없이 게시물과 작성자의 수정 시각만 조회 (리뷰 수 변경도 updateDate에 반영됨)
+    @Query("SELECT new com.example.titto_backend.common.util.ContentVersion(a.updateDate, u.updateDate) "
+            + "FROM MatchingPost a JOIN a.user u WHERE a.matchingPostId = :id")
+    Optional<ContentVersion> findContentVersionById(@Param("id") Long id);
+
+    @Query("SELECT a.category FROM MatchingPost a WHERE a.matchingPostId = :id")
+    Optional<Category> findCategoryById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE MatchingPost a SET a.viewCount = a.viewCount + 1 WHERE a.matchingPostId = :id")
+    int increaseViewCount(@Param("id") Long id);
 }
\ No newline at end of file
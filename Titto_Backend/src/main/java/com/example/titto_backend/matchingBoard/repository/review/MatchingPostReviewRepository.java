@@ -1,10 +1,16 @@
 package com.example.titto_backend.matchingBoard.repository.review;
 
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.common.util.ContentPreview;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +20,15 @@ public interface MatchingPostReviewRepository extends JpaRepository<MatchingPost
     void deleteAllByMatchingPost(MatchingPost matchingPost);
 
     List<MatchingPostReview> findMatchingPostReviewsByReviewAuthor(User user);
+
+    // 활동 피드용 키셋 조회 (작성자, 작성일, ID 인덱스를 역순으로 스캔)
+    @Query("SELECT new com.example.titto_backend.auth.dto.response.UserActivityDto('REVIEW', a.review_id, p.title,"
+            + " SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "), p.matchingPostId, a.createDate) "
+            + "FROM MatchingPostReview a JOIN a.matchingPost p"
+            + " WHERE a.reviewAuthor.id = :userId"
+            + " AND (a.createDate < :cursorDate OR (a.createDate = :cursorDate AND a.review_id < :cursorId))"
+            + " ORDER BY a.createDate DESC, a.review_id DESC")
+    List<UserActivityDto> findActivitiesByAuthor(@Param("userId") Long userId,
+                                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                                 @Param("cursorId") Long cursorId, Pageable pageable);
 }
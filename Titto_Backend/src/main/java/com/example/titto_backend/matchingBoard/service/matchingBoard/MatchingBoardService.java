@@ -1,14 +1,23 @@
 package com.example.titto_backend.matchingBoard.service.matchingBoard;
 
+import com.example.titto_backend.common.trending.domain.TrendingBoard;
+import com.example.titto_backend.common.trending.service.TrendingScoreService;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CachedJson;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPagingResponseDto;
+import com.example.titto_backend.matchingBoard.dto.response.matchingPostResponse.MatchingPostPreviewDto;
 import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,30 +25,61 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MatchingBoardService {
 
+    private static final String BOARD_PAGE_ALL = "matching:all";
+    private static final String BOARD_PAGE_CATEGORY = "matching:category:";
+
     private final MatchingPostRepository matchingPostRepository;
+    private final BoardPageCache boardPageCache;
+    private final TrendingScoreService trendingScoreService;
 
-    @Transactional
-    public MatchingPostPagingResponseDto findAllPosts(int page) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("createDate").descending());
-        Page<MatchingPost> matchingPosts = matchingPostRepository.findAll(pageable);
-        return MatchingPostPagingResponseDto.from(matchingPosts);
+    // 첫 페이지는 직렬화된 JSON을 캐시에서 바로 응답 (트랜잭션은 캐시 미스일 때만 시작)
+    // 목록에는 본문 미리보기만 내려주고 전체 본문은 상세 조회에서 제공 (정렬은 쿼리의 ORDER BY)
+    public CachedJson findAllPosts(int page) {
+        Pageable pageable = PageRequest.of(page, 10);
+        return boardPageCache.get(BOARD_PAGE_ALL, page,
+                () -> MatchingPostPagingResponseDto.from(matchingPostRepository.findPreviews(pageable)));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public MatchingPostPagingResponseDto searchByKeyWord(int page,
                                                          String keyword) {
 
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("createDate").descending());
-        Page<MatchingPost> matchingPosts = matchingPostRepository.findByTitleContaining(keyword, pageable);
+        Pageable pageable = PageRequest.of(page, 10);
+        Page<MatchingPostPreviewDto> matchingPosts = matchingPostRepository.findPreviewsByTitleContaining(keyword,
+                pageable);
         return MatchingPostPagingResponseDto.from(matchingPosts);
     }
 
-    @Transactional
-    public MatchingPostPagingResponseDto findByCategory(int page,
-                                                        String category) {
-        Pageable pageable = PageRequest.of(page, 10, Sort.by("createDate").descending());
-        Page<MatchingPost> matchingPosts = matchingPostRepository.findByCategory(Category.valueOf(category), pageable);
-        return MatchingPostPagingResponseDto.from(matchingPosts);
+    public CachedJson findByCategory(int page,
+                                     String category) {
+        Pageable pageable = PageRequest.of(page, 10);
+        Category matchingCategory = Category.valueOf(category);
+        return boardPageCache.get(BOARD_PAGE_CATEGORY + matchingCategory, page,
+                () -> MatchingPostPagingResponseDto.from(
+                        matchingPostRepository.findPreviewsByCategory(matchingCategory, pageable)));
+    }
+
+    // 인기 게시글 (Redis 점수 순 ID를 기본 키로 조회, 삭제되었거나 카테고리가 바뀐 게시글은 제외)
+    @Transactional(readOnly = true)
+    public List<MatchingPostPreviewDto> findTrending(String category, int size) {
+        String matchingCategory = category == null ? null : Category.valueOf(category).name();
+        List<Long> ids = trendingScoreService.top(TrendingBoard.MATCHING_POST, matchingCategory, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, MatchingPostPreviewDto> previews = matchingPostRepository.findPreviewsByIdIn(ids).stream()
+                .filter(preview -> matchingCategory == null || matchingCategory.equals(preview.getCategory()))
+                .collect(Collectors.toMap(MatchingPostPreviewDto::getMatchingPostId, Function.identity()));
+        return ids.stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 게시글이 노출되는 게시판 첫 페이지 캐시 키 (전체, 카테고리별)
+    public static List<String> boardPageKeys(MatchingPost matchingPost) {
+        return List.of(BOARD_PAGE_ALL, BOARD_PAGE_CATEGORY + matchingPost.getCategory());
     }
 
 }
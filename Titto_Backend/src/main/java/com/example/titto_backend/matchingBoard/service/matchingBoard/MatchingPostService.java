@@ -1,9 +1,19 @@
 package com.example.titto_backend.matchingBoard.service.matchingBoard;
 
+import com.example.titto_backend.auth.config.ReplicationRoutingDataSource;
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.dto.DomainEventDTO;
+import com.example.titto_backend.common.event.service.OutboxEventPublisher;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.trending.domain.TrendingBoard;
+import com.example.titto_backend.common.trending.domain.TrendingSignal;
+import com.example.titto_backend.common.trending.service.TrendingScoreService;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CacheUtil;
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.common.util.RedisUtil;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
@@ -19,6 +29,8 @@ import com.example.titto_backend.matchingBoard.repository.review.MatchingPostRev
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,6 +43,10 @@ public class MatchingPostService {
     private final UserRepository userRepository;
     private final MatchingPostReviewRepository matchingPostReviewRepository;
     private final RedisUtil redisUtil;
+    private final CacheUtil cacheUtil;
+    private final BoardPageCache boardPageCache;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TrendingScoreService trendingScoreService;
 
     // 게시물 작성
     @Transactional
@@ -39,16 +55,36 @@ public class MatchingPostService {
         User user = getCurrentUser(principal);
         MatchingPost matchingPost = matchingPostCreateRequestDto.toEntity(user);
         matchingPostRepository.save(matchingPost);
+        boardPageCache.invalidate(MatchingBoardService.boardPageKeys(matchingPost));
+
+        // 활동 테이블 반영은 outbox 이벤트로 비동기 처리
+        outboxEventPublisher.publish(EventType.MATCHING_POST_CREATED, matchingPost.getMatchingPostId(),
+                new DomainEventDTO.ContentChanged(matchingPost.getMatchingPostId(), user.getId()));
         return MatchingPostCreateResponseDto.of(matchingPost);
     }
 
-    // 게시물 조회
+    // 조회수 집계 후 본문 없이 수정 시각만 반환 (변경이 없으면 컨트롤러에서 304 응답)
     @Transactional
-    public MatchingPostResponseDto findByMatchingPostId(Principal principal, Long matchingPostId) {
-        User user = getCurrentUser(principal);
-        MatchingPost matchingPost = findMatchingPostById(matchingPostId);
-        countViews(user, matchingPost);
-        return MatchingPostResponseDto.of(matchingPost);
+    public ContentVersion recordView(Principal principal, Long matchingPostId) {
+        ContentVersion version = matchingPostRepository.findContentVersionById(matchingPostId)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+        countViews(principal.getName(), matchingPostId);
+        return version;
+    }
+
+    // 게시물 조회 (응답은 캐시, 다른 서버의 수정으로 캐시가 오래된 경우 다시 조회)
+    // version과 같은 프라이머리에서 읽음 (레플리카의 이전 본문이 새 ETag로 캐시되지 않도록)
+    @Transactional(readOnly = true)
+    public MatchingPostResponseDto findByMatchingPostId(Long matchingPostId, ContentVersion version) {
+        return ReplicationRoutingDataSource.readFromPrimary(() -> {
+            MatchingPostResponseDto response = cacheUtil.get(CacheUtil.MATCHING_POST_DETAIL, matchingPostId,
+                    () -> MatchingPostResponseDto.of(findMatchingPostById(matchingPostId)));
+            if (!response.contentVersion().isSameAs(version)) {
+                response = MatchingPostResponseDto.of(findMatchingPostById(matchingPostId));
+                cacheUtil.put(CacheUtil.MATCHING_POST_DETAIL, matchingPostId, response);
+            }
+            return response;
+        });
     }
 
     // 게시물 삭제
@@ -61,6 +97,10 @@ public class MatchingPostService {
 
         matchingPostReviewRepository.deleteAllByMatchingPost(matchingPost);
         matchingPostRepository.delete(matchingPost);
+        cacheUtil.evict(CacheUtil.MATCHING_POST_DETAIL, matchingPostId);
+        boardPageCache.invalidate(MatchingBoardService.boardPageKeys(matchingPost));
+        outboxEventPublisher.publish(EventType.MATCHING_POST_DELETED, matchingPostId,
+                new DomainEventDTO.ContentChanged(matchingPostId, user.getId()));
         return MatchingPostDeleteResponseDto.of(matchingPostId);
     }
 
@@ -72,31 +112,33 @@ public class MatchingPostService {
         validateMatchingPostAuthorIsLoggedInUser(matchingPostId, user);
         MatchingPost matchingPost = findMatchingPostById(matchingPostId);
 
-        // 게시물 내용 수정
+        // 게시물 내용 수정 (카테고리가 바뀌면 이전/이후 카테고리의 첫 페이지 모두 무효화)
+        List<String> staleBoardPages = new ArrayList<>(MatchingBoardService.boardPageKeys(matchingPost));
         matchingPost.update(
                 Category.valueOf(matchingPostUpdateRequestDto.getCategory()),
                 matchingPostUpdateRequestDto.getTitle(),
                 matchingPostUpdateRequestDto.getContent(),
                 Status.valueOf(matchingPostUpdateRequestDto.getStatus())
         );
+        cacheUtil.evict(CacheUtil.MATCHING_POST_DETAIL, matchingPostId);
+        staleBoardPages.addAll(MatchingBoardService.boardPageKeys(matchingPost));
+        boardPageCache.invalidate(staleBoardPages);
+        outboxEventPublisher.publish(EventType.MATCHING_POST_UPDATED, matchingPostId,
+                new DomainEventDTO.ContentChanged(matchingPostId, user.getId()));
         return MatchingPostUpdateResponseDto.of(matchingPost);
     }
 
     @Transactional
-    public void countViews(User user, MatchingPost matchingPost) {
-        String key = String.format("matchingPostViewCount:%d:%d", user.getId(), matchingPost.getMatchingPostId());
-        String viewCount = redisUtil.getData(key);
-
-        if (viewCount == null) {
-            redisUtil.setDateExpire(key, "1", calculateTimeUntilMidnight());
-            matchingPost.updateViewCount();
-        } else {
-            int count = Integer.parseInt(viewCount);
-            if (count < 1) {
-                count++;
-                redisUtil.setDateExpire(key, String.valueOf(count), calculateTimeUntilMidnight());
-                matchingPost.updateViewCount();
-            }
+    public void countViews(String email, Long matchingPostId) {
+        String key = String.format("matchingPostViewCount:%s:%d", email, matchingPostId);
+
+        // 하루 한 번만 집계: SET NX EX 한 번의 왕복으로 확인과 기록을 처리
+        // Redis를 사용할 수 없으면 중복 체크 없이 집계
+        if (redisUtil.fallback("viewCount", () -> redisUtil.setIfAbsent(key, "1", calculateTimeUntilMidnight()),
+                () -> true)) {
+            matchingPostRepository.increaseViewCount(matchingPostId);
+            matchingPostRepository.findCategoryById(matchingPostId).ifPresent(category -> trendingScoreService.record(
+                    TrendingBoard.MATCHING_POST, matchingPostId, category.name(), TrendingSignal.VIEW));
         }
     }
 
@@ -2,8 +2,13 @@ package com.example.titto_backend.matchingBoard.service.matchingBoardReview;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.dto.DomainEventDTO;
+import com.example.titto_backend.common.event.service.OutboxEventPublisher;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CacheUtil;
 import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
 import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
 import com.example.titto_backend.matchingBoard.dto.request.matchingPostReviewRequest.MatchingPostReviewCreateRequestDto;
@@ -15,6 +20,7 @@ import com.example.titto_backend.matchingBoard.dto.response.matchingPostReviewRe
 import com.example.titto_backend.matchingBoard.dto.response.matchingPostReviewResponse.MatchingPostReviewUpdateResponseDto;
 import com.example.titto_backend.matchingBoard.repository.matchingBoard.MatchingPostRepository;
 import com.example.titto_backend.matchingBoard.repository.review.MatchingPostReviewRepository;
+import com.example.titto_backend.matchingBoard.service.matchingBoard.MatchingBoardService;
 import java.security.Principal;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +35,9 @@ public class MatchingPostReviewService {
     private final MatchingPostReviewRepository matchingPostReviewRepository;
     private final UserRepository userRepository;
     private final MatchingPostRepository matchingPostRepository;
+    private final CacheUtil cacheUtil;
+    private final BoardPageCache boardPageCache;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     @Transactional
     public MatchingPostReviewCreateResponseDto createReview(Principal principal,
@@ -38,15 +47,23 @@ public class MatchingPostReviewService {
         MatchingPost matchingPost = matchingPostRepository.findById(matchingPostReviewCreateRequestDto.getPostId())
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
         matchingPost.increaseReviewCount();
+        cacheUtil.evict(CacheUtil.MATCHING_POST_DETAIL, matchingPost.getMatchingPostId());
+        boardPageCache.invalidate(MatchingBoardService.boardPageKeys(matchingPost));
 
         MatchingPostReview matchingPostReview = MatchingPostReview.builder()
                 .matchingPost(matchingPost)
                 .reviewAuthor(user)
                 .content(matchingPostReviewCreateRequestDto.getContent())
                 .build();
-        return new MatchingPostReviewCreateResponseDto(matchingPostReviewRepository.save(matchingPostReview));
+        MatchingPostReview savedReview = matchingPostReviewRepository.save(matchingPostReview);
+
+        // 활동 테이블 반영은 outbox 이벤트로 비동기 처리
+        outboxEventPublisher.publish(EventType.REVIEW_CREATED, savedReview.getReview_id(),
+                new DomainEventDTO.ContentChanged(savedReview.getReview_id(), user.getId()));
+        return new MatchingPostReviewCreateResponseDto(savedReview);
     }
 
+    @Transactional(readOnly = true)
     public List<MatchingPostReviewResponseDto> getAllMatchingBoardReviewsByPostId(Long postId) {
         MatchingPost matchingPost = matchingPostRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
@@ -71,7 +88,10 @@ public class MatchingPostReviewService {
                 .reviewAuthor(user)
                 .content(matchingPostReviewUpdateRequestDto.getContent())
                 .build();
-        return new MatchingPostReviewUpdateResponseDto(matchingPostReviewRepository.save(matchingPostReview));
+        MatchingPostReview savedReview = matchingPostReviewRepository.save(matchingPostReview);
+        outboxEventPublisher.publish(EventType.REVIEW_UPDATED, savedReview.getReview_id(),
+                new DomainEventDTO.ContentChanged(savedReview.getReview_id(), user.getId()));
+        return new MatchingPostReviewUpdateResponseDto(savedReview);
     }
 
     @Transactional
@@ -84,11 +104,15 @@ public class MatchingPostReviewService {
         MatchingPost matchingPost = matchingPostRepository.findById(matchingPostReviewDeleteRequestDto.getPostId())
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
         matchingPost.decreaseReviewCount();
+        cacheUtil.evict(CacheUtil.MATCHING_POST_DETAIL, matchingPost.getMatchingPostId());
+        boardPageCache.invalidate(MatchingBoardService.boardPageKeys(matchingPost));
 
         MatchingPostReview matchingPostReview = matchingPostReviewRepository.findById(
                 matchingPostReviewDeleteRequestDto.getReviewId()).orElseThrow(
                 () -> new CustomException(ErrorCode.REVIEW_NOT_FOUND));
         matchingPostReviewRepository.delete(matchingPostReview);
+        outboxEventPublisher.publish(EventType.REVIEW_DELETED, matchingPostReview.getReview_id(),
+                new DomainEventDTO.ContentChanged(matchingPostReview.getReview_id(), user.getId()));
 
         return MatchingPostReviewDeleteResponseDto.of(matchingPostReviewDeleteRequestDto.getReviewId());
     }
@@ -4,6 +4,7 @@ import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.message.domain.Message;
 import com.example.titto_backend.message.dto.MessageDTO;
 import com.example.titto_backend.message.service.MessageService;
+import com.example.titto_backend.message.service.MessageUnreadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -31,6 +32,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class MessageController {
 
     private final MessageService messageService;
+    private final MessageUnreadService messageUnreadService;
 
     @PostMapping("/write")
     @Operation(
@@ -105,6 +107,18 @@ public class MessageController {
         return new ResponseEntity<>(messageService.getMessagesBySender(userDetails.getUsername()), HttpStatus.OK);
     }
 
+    @GetMapping("/unread-count")
+    @Operation(
+            summary = "읽지 않은 메시지 수 조회",
+            description = "대화 상대별 읽지 않은 메시지 수와 전체 개수를 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<MessageDTO.UnreadCount> getUnreadCount(@AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(messageUnreadService.getUnreadCount(userDetails.getUsername()));
+    }
+
     @PutMapping("/delete-all/{seletedUserId}")
     @Operation(
             summary = "전체 메시지 삭제",
@@ -61,6 +61,9 @@ public class Message extends BaseEntity {
     @Column(name = "DeletedByReceiver")
     private boolean deletedByReceiver;
 
+    @Column(name = "ReadByReceiver")
+    private boolean readByReceiver;
+
     @Builder
     public Message(User sender, User receiver, String content, String senderNickname, String receiverNickname) {
         this.sender = sender;
@@ -70,6 +73,7 @@ public class Message extends BaseEntity {
         this.receiverNickname = receiverNickname;
         this.deletedBySender = false;
         this.deletedByReceiver = false;
+        this.readByReceiver = false;
         this.sentAt = LocalDateTime.now();
     }
 
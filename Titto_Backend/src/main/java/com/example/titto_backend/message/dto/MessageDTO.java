@@ -3,6 +3,7 @@ package com.example.titto_backend.message.dto;
 import com.example.titto_backend.message.domain.Message;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -49,6 +50,9 @@ public class MessageDTO {
         @Schema(description = "보낸 사람 닉네임")
         private String senderNickname;
 
+        @Schema(description = "읽음 여부")
+        private boolean read;
+
         public Response(Message message) {
             this.id = message.getId();
             this.content = message.getContent();
@@ -57,6 +61,7 @@ public class MessageDTO {
             this.sentAt = message.getSentAt().toString();
             this.receiverNickname = message.getReceiverNickname();
             this.senderNickname = message.getSenderNickname();
+            this.read = message.isReadByReceiver();
         }
     }
 
@@ -96,5 +101,15 @@ public class MessageDTO {
         }
     }
 
-}
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "읽지 않은 메시지 수 조회")
+    public static class UnreadCount {
+        @Schema(description = "읽지 않은 메시지 전체 개수")
+        private long total;
 
+        @Schema(description = "대화 상대 ID 별 읽지 않은 메시지 개수")
+        private Map<Long, Long> conversations;
+    }
+
+}
@@ -3,7 +3,12 @@ package com.example.titto_backend.message.repository;
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.message.domain.Message;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MessageRepository extends JpaRepository<Message, Long> {
     List<Message> findAllByReceiverAndDeletedByReceiverFalse(User user);
@@ -14,4 +19,41 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
             User sender1, User receiver1, User receiver2, User sender2);
 
     List<Message> findBySenderAndDeletedBySenderFalseOrReceiverAndDeletedByReceiverFalseOrderBySentAtDesc(User sender, User receiver);
+
+    // 받은 메시지 읽음 처리 (대화 단위, 대화를 열람한 시점의 마지막 메시지까지만)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Message m SET m.readByReceiver = true "
+            + "WHERE m.receiver.id = :receiverId AND m.sender.id = :senderId AND m.readByReceiver = false"
+            + " AND m.id <= :lastMessageId")
+    int markAsRead(@Param("receiverId") Long receiverId, @Param("senderId") Long senderId,
+                   @Param("lastMessageId") Long lastMessageId);
+
+    @Query("SELECT MAX(m.id) FROM Message m WHERE m.receiver.id = :receiverId AND m.sender.id = :senderId")
+    Optional<Long> findLastReceivedId(@Param("receiverId") Long receiverId, @Param("senderId") Long senderId);
+
+    // 대화 삭제 (보낸 메시지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Message m SET m.deletedBySender = true "
+            + "WHERE m.sender.id = :userId AND m.receiver.id = :otherUserId AND m.deletedBySender = false")
+    int softDeleteBySender(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+
+    // 대화 삭제 (받은 메시지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Message m SET m.deletedByReceiver = true "
+            + "WHERE m.receiver.id = :userId AND m.sender.id = :otherUserId AND m.deletedByReceiver = false")
+    int softDeleteByReceiver(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+
+    // 양쪽 모두 삭제한 메시지 영구 삭제 (대화 단위)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Message m WHERE m.deletedBySender = true AND m.deletedByReceiver = true "
+            + "AND ((m.sender.id = :userId AND m.receiver.id = :otherUserId) "
+            + "OR (m.sender.id = :otherUserId AND m.receiver.id = :userId))")
+    int deleteFullyDeletedBetween(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+
+    // 양쪽 모두 삭제한 메시지를 chunk 단위로 영구 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM messages WHERE deleted_by_sender = true AND deleted_by_receiver = true LIMIT :chunkSize",
+            nativeQuery = true)
+    int purgeFullyDeleted(@Param("chunkSize") int chunkSize);
 }
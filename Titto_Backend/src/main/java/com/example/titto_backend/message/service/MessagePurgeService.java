@@ -0,0 +1,34 @@
+package com.example.titto_backend.message.service;
+
+import com.example.titto_backend.message.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessagePurgeService {
+
+    private final MessageRepository messageRepository;
+
+    @Value("${message.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    // 양쪽 모두 삭제한 메시지를 chunk 단위로 영구 삭제 (chunk마다 별도 트랜잭션으로 락 점유 최소화)
+    @Scheduled(cron = "${message.purge.cron:0 0 4 * * *}")
+    public void purgeDeletedMessages() {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = messageRepository.purgeFullyDeleted(chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        if (total > 0) {
+            log.info("삭제된 메시지 영구 삭제: {}건", total);
+        }
+    }
+}
@@ -20,6 +20,7 @@ public class MessageService {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final MessageUnreadService messageUnreadService;
 
     @Transactional
     public String writeMessage(MessageDTO.Request request, String email) throws CustomException {
@@ -37,10 +38,12 @@ public class MessageService {
                 .content(request.getContent())
                 .build());
 
+        messageUnreadService.increase(receiver, sender);
+
         return "메시지 전송 성공";
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MessageDTO.Response> getBothMessages(String email, Long selectedUserId) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -51,10 +54,18 @@ public class MessageService {
         List<Message> messages = messageRepository.findBySenderAndReceiverAndDeletedBySenderFalseOrReceiverAndSenderAndDeletedByReceiverFalseOrderBySentAtDesc(
                 user, selectedUser, user, selectedUser);
 
+        // 대화를 열람하면 상대방에게 받은 메시지는 읽음 처리 (조회한 메시지까지만)
+        Long lastReceivedId = messages.stream()
+                .filter(message -> message.getReceiver().equals(user))
+                .map(Message::getId)
+                .max(Long::compare)
+                .orElse(null);
+        messageUnreadService.clear(user, selectedUser, lastReceivedId);
+
         return convertMessagesToDTO(messages);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Map<User, Message> getUserConversations(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -77,7 +88,7 @@ public class MessageService {
         return conversations;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MessageDTO.Response> getMessagesByReceiver(String email) {
         User receiver = userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -85,7 +96,7 @@ public class MessageService {
         return convertMessagesToDTO(messages);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<MessageDTO.Response> getMessagesBySender(String email) {
         User sender = userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -101,21 +112,13 @@ public class MessageService {
         User selectedUser = userRepository.findById(selectedUserId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
-        List<Message> messages = messageRepository.findBySenderAndReceiverAndDeletedBySenderFalseOrReceiverAndSenderAndDeletedByReceiverFalseOrderBySentAtDesc(
-                user, selectedUser, user, selectedUser);
-
-        for (Message message : messages) {
-            if (message.getSender().equals(user)) {
-                message.setDeletedBySender(true);
-            }
-            if (message.getReceiver().equals(user)) {
-                message.setDeletedByReceiver(true);
-            }
-        }
+        // 대화 크기와 관계없이 UPDATE 2회 + DELETE 1회로 처리
+        messageRepository.softDeleteBySender(user.getId(), selectedUser.getId());
+        messageRepository.softDeleteByReceiver(user.getId(), selectedUser.getId());
+        messageRepository.deleteFullyDeletedBetween(user.getId(), selectedUser.getId());
 
-        if (messages.stream().allMatch(message -> message.isDeletedBySender() && message.isDeletedByReceiver())) {
-            messageRepository.deleteAll(messages);
-        }
+        messageUnreadService.clear(user, selectedUser,
+                messageRepository.findLastReceivedId(user.getId(), selectedUser.getId()).orElse(null));
     }
 
     private List<MessageDTO.Response> convertMessagesToDTO(List<Message> messages) {
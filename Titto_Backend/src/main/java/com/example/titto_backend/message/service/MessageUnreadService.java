@@ -0,0 +1,110 @@
+package com.example.titto_backend.message.service;
+
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.common.util.RedisUtil;
+import com.example.titto_backend.message.dto.MessageDTO;
+import com.example.titto_backend.message.repository.MessageRepository;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageUnreadService {
+
+    // messageUnread:{수신자 이메일} -> { 발신자 ID : 읽지 않은 메시지 수 }
+    private static final String UNREAD_KEY_PREFIX = "messageUnread:";
+    // 읽음 처리되었지만 아직 DB에 반영되지 않은 대화 ("수신자ID:발신자ID:열람 시점의 마지막 메시지 ID")
+    private static final String PENDING_READ_KEY = "messageReadPending";
+    private static final long FLUSH_BATCH_SIZE = 500;
+
+    private final RedisUtil redisUtil;
+    private final MessageRepository messageRepository;
+
+    // 메시지 저장이 롤백되면 카운터가 남지 않도록 커밋 이후에 증가
+    public void increase(User receiver, User sender) {
+        String key = unreadKey(receiver.getEmail());
+        String field = String.valueOf(sender.getId());
+        // 카운터는 부가 정보이므로 Redis 장애 시 메시지 전송을 막지 않음
+        Runnable increment = () -> redisUtil.runOrSkip("messageUnread", () -> redisUtil.incrementHash(key, field, 1));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment.run();
+                }
+            });
+            return;
+        }
+        increment.run();
+    }
+
+    // 대화 조회 시 해당 대화의 읽지 않은 메시지 수 초기화
+    // lastMessageId: 열람 시점에 받은 마지막 메시지 (이후 도착한 메시지는 읽음 처리하지 않음)
+    // 카운터가 없어도(만료, Redis 장애 후 유실 등) DB에는 읽지 않은 메시지가 남아 있을 수 있으므로 항상 읽음 처리를 기록
+    // (같은 대화, 같은 마지막 메시지 ID는 한 항목으로 합쳐지고 UPDATE는 lastMessageId 이하로 제한되어 중복 반영해도 같은 결과)
+    public void clear(User receiver, User sender, Long lastMessageId) {
+        if (lastMessageId == null) {
+            return;
+        }
+        redisUtil.runOrSkip("messageUnread", () -> {
+            redisUtil.deleteHashField(unreadKey(receiver.getEmail()), String.valueOf(sender.getId()));
+            redisUtil.addToSet(PENDING_READ_KEY, receiver.getId() + ":" + sender.getId() + ":" + lastMessageId);
+        });
+    }
+
+    // 수신자 이메일(토큰 subject)만으로 조회하므로 DB를 거치지 않음
+    public MessageDTO.UnreadCount getUnreadCount(String email) {
+        Map<String, String> entries = redisUtil.fallback("messageUnread",
+                () -> redisUtil.getHashEntries(unreadKey(email)), Map::of);
+
+        Map<Long, Long> conversations = new HashMap<>();
+        long total = 0;
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            long count = Long.parseLong(entry.getValue());
+            conversations.put(Long.valueOf(entry.getKey()), count);
+            total += count;
+        }
+        return new MessageDTO.UnreadCount(total, conversations);
+    }
+
+    // Redis에 쌓인 읽음 처리를 주기적으로 DB에 반영
+    // 항목은 커밋 이후에 제거 (DB 반영이 실패하면 다음 주기에 다시 처리, UPDATE는 여러 번 실행되어도 같은 결과)
+    @Scheduled(fixedDelayString = "${message.read-receipt.flush-interval-ms:60000}")
+    @Transactional
+    public void flushReadReceipts() {
+        List<String> pending = redisUtil.fallback("messageReadPending",
+                () -> redisUtil.getRandomSetMembers(PENDING_READ_KEY, FLUSH_BATCH_SIZE), List::of);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+
+        int updated = 0;
+        for (String conversation : pending) {
+            String[] ids = conversation.split(":");
+            // 마지막 메시지 ID가 없는 항목은 배포 이전에 쌓인 것이므로 기존처럼 대화 전체를 읽음 처리
+            Long lastMessageId = ids.length > 2 ? Long.valueOf(ids[2]) : Long.MAX_VALUE;
+            updated += messageRepository.markAsRead(Long.valueOf(ids[0]), Long.valueOf(ids[1]), lastMessageId);
+        }
+        log.debug("읽음 처리 반영: 대화 {}건, 메시지 {}건", pending.size(), updated);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                redisUtil.runOrSkip("messageReadPending", () -> redisUtil.removeFromSet(PENDING_READ_KEY, pending));
+            }
+        });
+    }
+
+    private String unreadKey(String email) {
+        return UNREAD_KEY_PREFIX + email;
+    }
+}
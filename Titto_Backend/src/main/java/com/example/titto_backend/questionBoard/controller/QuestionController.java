@@ -4,12 +4,18 @@ import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.trending.service.TrendingScoreService;
+import com.example.titto_backend.common.util.CachedJson;
+import com.example.titto_backend.common.util.ConditionalRequestUtil;
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionPreviewDTO;
 import com.example.titto_backend.questionBoard.service.QuestionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.security.Principal;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
@@ -24,6 +30,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -54,10 +61,15 @@ public class QuestionController {
             description = "전체 질문을 조회합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match)"),
                     @ApiResponse(responseCode = "500", description = "관리자 문의")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> getAllQuestions(@RequestParam(defaultValue = "0") int page) {
-        Page<QuestionDTO.Response> questions = questionService.findAll(page);
+    public ResponseEntity<CachedJson> getAllQuestions(@RequestParam(defaultValue = "0") int page,
+                                                      ServletWebRequest webRequest) {
+        CachedJson questions = questionService.findAll(page);
+        if (ConditionalRequestUtil.checkNotModified(webRequest, questions.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(questions);
     }
 
@@ -67,11 +79,19 @@ public class QuestionController {
             description = "질문 상세 내용을 조회합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since)"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
     public ResponseEntity<QuestionDTO.Response> getQuestionById(Principal principal,
-                                                                @PathVariable Long postId) {
-        QuestionDTO.Response question = questionService.findById(principal, postId);
+                                                                @PathVariable Long postId,
+                                                                ServletWebRequest webRequest) {
+        ContentVersion version = questionService.recordView(principal, postId);
+        // 변경이 없으면 본문을 조회하지 않고 304 응답 (ETag, Last-Modified 헤더는 여기서 설정됨)
+        if (ConditionalRequestUtil.checkNotModified(webRequest, version.getEtag(),
+                version.getLastModifiedMillis())) {
+            return null;
+        }
+        QuestionDTO.Response question = questionService.findById(postId, version);
         return new ResponseEntity<>(question, HttpStatus.OK);
     }
 
@@ -81,11 +101,16 @@ public class QuestionController {
             description = "카테고리별 질문을 조회합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match)"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> getQuestionsByCategory(@PathVariable("category") String category,
-                                                                             @RequestParam(defaultValue = "0") int page) {
-        Page<QuestionDTO.Response> questions = questionService.findByCategory(page, category);
+    public ResponseEntity<CachedJson> getQuestionsByCategory(@PathVariable("category") String category,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             ServletWebRequest webRequest) {
+        CachedJson questions = questionService.findByCategory(page, category);
+        if (ConditionalRequestUtil.checkNotModified(webRequest, questions.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(questions);
     }
 
@@ -95,11 +120,16 @@ public class QuestionController {
             description = "상태별 질문을 조회합니다",
             responses = {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match)"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> getQuestionsByStatus(@PathVariable("status") String status,
-                                                                           @RequestParam(defaultValue = "0") int page) {
-        Page<QuestionDTO.Response> questions = questionService.findByStatus(page, status);
+    public ResponseEntity<CachedJson> getQuestionsByStatus(@PathVariable("status") String status,
+                                                           @RequestParam(defaultValue = "0") int page,
+                                                           ServletWebRequest webRequest) {
+        CachedJson questions = questionService.findByStatus(page, status);
+        if (ConditionalRequestUtil.checkNotModified(webRequest, questions.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(questions);
     }
 
@@ -111,12 +141,26 @@ public class QuestionController {
                     @ApiResponse(responseCode = "200", description = "요청 성공"),
                     @ApiResponse(responseCode = "404", description = "질문을 찾을 수 없음")
             })
-    public ResponseEntity<Page<QuestionDTO.Response>> searchByKeyWord(@RequestParam("page") int page,
+    public ResponseEntity<Page<QuestionPreviewDTO>> searchByKeyWord(@RequestParam("page") int page,
                                                                       @RequestParam String keyWord) {
-        Page<QuestionDTO.Response> questions = questionService.searchByKeyword(keyWord, page);
+        Page<QuestionPreviewDTO> questions = questionService.searchByKeyword(keyWord, page);
         return ResponseEntity.ok(questions);
     }
 
+    @GetMapping("/trending")
+    @Operation(
+            summary = "인기 질문 조회",
+            description = "최근 조회, 답변, 채택이 많은 질문을 점수 순으로 조회합니다 (category를 생략하면 전체)",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "요청 성공"),
+                    @ApiResponse(responseCode = "500", description = "관리자 문의")
+            })
+    public ResponseEntity<List<QuestionPreviewDTO>> getTrendingQuestions(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "" + TrendingScoreService.DEFAULT_SIZE) int size) {
+        return ResponseEntity.ok(questionService.findTrending(category, size));
+    }
+
     @PutMapping("/{postId}")
     @Operation(
             summary = "질문 수정",
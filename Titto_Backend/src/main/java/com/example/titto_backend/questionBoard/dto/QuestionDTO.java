@@ -1,12 +1,16 @@
 package com.example.titto_backend.questionBoard.dto;
 
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.questionBoard.domain.Department;
 import com.example.titto_backend.questionBoard.domain.Question;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -96,6 +100,13 @@ public class QuestionDTO {
         @Schema(description = "답변 개수")
         private Integer answerCount;
 
+        // 응답에 담긴 작성자 정보의 버전 (직렬화하지 않음)
+        @JsonIgnore
+        private LocalDateTime authorUpdateDate;
+
+        @JsonIgnore
+        private LocalDateTime answerAuthorUpdateDate;
+
         public Response(Question question) {
             this.id = question.getId();
             this.authorId = question.getAuthor().getId();
@@ -113,6 +124,22 @@ public class QuestionDTO {
             this.profile = question.getAuthor().getProfile();
             this.sendExperience = question.getSendExperience();
             this.answerCount = question.getAnswerCount();
+            this.authorUpdateDate = question.getAuthor().getUpdateDate();
+            this.answerAuthorUpdateDate = question.getAnswers().stream()
+                    .map(answer -> answer.getAuthor().getUpdateDate())
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+        }
+
+        // 응답에 담긴 질문, 답변, 작성자들의 수정 시각 (캐시된 응답이 ETag와 같은 버전인지 확인용)
+        public ContentVersion contentVersion() {
+            LocalDateTime lastAnswerUpdate = answerList.stream()
+                    .map(AnswerDTO.Response::getUpdateDate)
+                    .filter(Objects::nonNull)
+                    .max(Comparator.naturalOrder())
+                    .orElse(null);
+            return new ContentVersion(updateDate, lastAnswerUpdate, authorUpdateDate, answerAuthorUpdateDate);
         }
     }
 
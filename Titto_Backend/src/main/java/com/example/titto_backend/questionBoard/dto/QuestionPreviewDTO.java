@@ -0,0 +1,87 @@
+package com.example.titto_backend.questionBoard.dto;
+
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 질문 목록 조회용 (본문은 미리보기만, 답변 목록은 상세 조회에서만 제공)
+@Data
+@NoArgsConstructor
+@Schema(description = "질문 글 목록 조회")
+public class QuestionPreviewDTO {
+
+    @Schema(description = "질문 ID")
+    private Long id;
+
+    @Schema(description = "질문 작성자 ID")
+    private Long authorId;
+
+    @Schema(description = "질문 작성자 닉네임")
+    private String authorNickname;
+
+    @Schema(description = "카테고리")
+    private String department;
+
+    @Schema(description = "상태")
+    private String status;
+
+    @Schema(description = "제목")
+    private String title;
+
+    @Schema(description = "내용 미리보기 (최대 " + ContentPreview.LENGTH + "자)")
+    private String preview;
+
+    @Schema(description = "미리보기가 잘렸는지 여부")
+    private boolean truncated;
+
+    @Schema(description = "채택 여부")
+    private boolean isAccepted;
+
+    @Schema(description = "조회수")
+    private Integer viewCount;
+
+    @Schema(description = "생성 날짜")
+    private LocalDateTime createDate;
+
+    @Schema(description = "수정 날짜")
+    private LocalDateTime updateDate;
+
+    @Schema(description = "사용자 레벨")
+    private Integer level;
+
+    @Schema(description = "사용자 프로필")
+    private String profile;
+
+    @Schema(description = "줄 포인트")
+    private Integer sendExperience;
+
+    @Schema(description = "답변 개수")
+    private Integer answerCount;
+
+    // QuestionRepository의 JPQL 생성자 표현식에서 사용
+    public QuestionPreviewDTO(Long id, Long authorId, String authorNickname, Department department, Status status,
+                              String title, String content, boolean isAccepted, Integer viewCount,
+                              LocalDateTime createDate, LocalDateTime updateDate, Integer level, String profile,
+                              Integer sendExperience, Integer answerCount) {
+        this.id = id;
+        this.authorId = authorId;
+        this.authorNickname = authorNickname;
+        this.department = String.valueOf(department);
+        this.status = String.valueOf(status);
+        this.title = title;
+        this.preview = ContentPreview.of(content);
+        this.truncated = ContentPreview.isTruncated(content);
+        this.isAccepted = isAccepted;
+        this.viewCount = viewCount;
+        this.createDate = createDate;
+        this.updateDate = updateDate;
+        this.level = level;
+        this.profile = profile;
+        this.sendExperience = sendExperience;
+        this.answerCount = answerCount;
+    }
+}
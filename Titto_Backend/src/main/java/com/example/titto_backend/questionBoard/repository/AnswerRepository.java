@@ -1,15 +1,21 @@
 package com.example.titto_backend.questionBoard.repository;
 
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.common.util.ContentPreview;
 import com.example.titto_backend.questionBoard.domain.Answer;
 import com.example.titto_backend.questionBoard.dto.AnswerInfoDTO;
-import io.lettuce.core.dynamic.annotation.Param;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
-    @Query("SELECT new com.example.titto_backend.questionBoard.dto.AnswerInfoDTO(a.id, a.content, a.question.id, a.question.title, a.question.department) "
+    @Query("SELECT new com.example.titto_backend.questionBoard.dto.AnswerInfoDTO(a.id, "
+            + "SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "),"
+            + " a.question.id, a.question.title, a.question.department) "
             + "FROM Answer a"
             + " WHERE a.author = :user")
     List<AnswerInfoDTO> findAnswersInfoByAuthor(@Param("user") User user);
@@ -17,4 +23,15 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findByQuestionId(Long questionId);
 
     List<Answer> findAnswersByAuthor(User user);
+
+    // 활동 피드용 키셋 조회 (작성자, 작성일, ID 인덱스를 역순으로 스캔)
+    @Query("SELECT new com.example.titto_backend.auth.dto.response.UserActivityDto('ANSWER', a.id, q.title,"
+            + " SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "), q.id, a.createDate) "
+            + "FROM Answer a JOIN a.question q"
+            + " WHERE a.author.id = :userId"
+            + " AND (a.createDate < :cursorDate OR (a.createDate = :cursorDate AND a.id < :cursorId))"
+            + " ORDER BY a.createDate DESC, a.id DESC")
+    List<UserActivityDto> findActivitiesByAuthor(@Param("userId") Long userId,
+                                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                                 @Param("cursorId") Long cursorId, Pageable pageable);
 }
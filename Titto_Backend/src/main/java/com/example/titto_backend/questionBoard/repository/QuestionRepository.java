@@ -1,31 +1,91 @@
 package com.example.titto_backend.questionBoard.repository;
 
 import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.common.util.ContentPreview;
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.questionBoard.domain.Department;
 import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.domain.Status;
 import com.example.titto_backend.questionBoard.dto.QuestionInfoDTO;
+import com.example.titto_backend.questionBoard.dto.QuestionPreviewDTO;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
-    Page<Question> findByDepartmentOrderByCreateDateDesc(Pageable pageable, Department category);
+    // 목록 조회는 본문 미리보기만 가져옴 (LONGTEXT 본문과 답변 목록을 읽지 않음)
+    String PREVIEW_SELECT = "SELECT new com.example.titto_backend.questionBoard.dto.QuestionPreviewDTO("
+            + "q.id, u.id, u.nickname, q.department, q.status, q.title,"
+            + " SUBSTRING(q.content, 1, " + ContentPreview.FETCH_LENGTH + "),"
+            + " q.isAnswerAccepted, q.viewCount, q.createDate, q.updateDate, u.level, u.profile,"
+            + " q.sendExperience, q.answerCount) "
+            + "FROM Question q JOIN q.author u";
 
-    Page<Question> findAllByOrderByCreateDateDesc(Pageable pageable);
+    @Query(value = PREVIEW_SELECT + " ORDER BY q.createDate DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q")
+    Page<QuestionPreviewDTO> findPreviews(Pageable pageable);
 
-    Page<Question> findQuestionByStatus(Status status, Pageable pageable);
+    @Query(value = PREVIEW_SELECT + " WHERE q.department = :department ORDER BY q.createDate DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.department = :department")
+    Page<QuestionPreviewDTO> findPreviewsByDepartment(@Param("department") Department department, Pageable pageable);
 
-    Page<Question> findByTitleContaining(String keyWord, Pageable pageable);
+    @Query(value = PREVIEW_SELECT + " WHERE q.status = :status ORDER BY q.createDate DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.status = :status")
+    Page<QuestionPreviewDTO> findPreviewsByStatus(@Param("status") Status status, Pageable pageable);
 
-    @Query("SELECT new com.example.titto_backend.questionBoard.dto.QuestionInfoDTO(a.id, a.title, a.content,"
+    @Query(value = PREVIEW_SELECT + " WHERE q.title LIKE CONCAT('%', :keyword, '%') ORDER BY q.createDate DESC",
+            countQuery = "SELECT COUNT(q) FROM Question q WHERE q.title LIKE CONCAT('%', :keyword, '%')")
+    Page<QuestionPreviewDTO> findPreviewsByTitleContaining(@Param("keyword") String keyword, Pageable pageable);
+
+    // 인기 글 목록 (ID는 Redis 점수 순, 정렬은 호출하는 쪽에서 맞춤)
+    @Query(PREVIEW_SELECT + " WHERE q.id IN :ids")
+    List<QuestionPreviewDTO> findPreviewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.example.titto_backend.questionBoard.dto.QuestionInfoDTO(a.id, a.title,"
+            + " SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "),"
             + " a.createDate, a.viewCount, a.answerCount, a.department) "
             + "FROM Question a"
             + " WHERE a.author = :user")
     List<QuestionInfoDTO> findQuestionsInfoByAuthor(@Param("user") User user);
 
     List<Question> findQuestionsByAuthor(User user);
+
+    // 활동 피드용 키셋 조회 (작성자, 작성일, ID 인덱스를 역순으로 스캔)
+    @Query("SELECT new com.example.titto_backend.auth.dto.response.UserActivityDto('QUESTION', a.id, a.title,"
+            + " SUBSTRING(a.content, 1, " + ContentPreview.LENGTH + "), a.id, a.createDate) "
+            + "FROM Question a"
+            + " WHERE a.author.id = :userId"
+            + " AND (a.createDate < :cursorDate OR (a.createDate = :cursorDate AND a.id < :cursorId))"
+            + " ORDER BY a.createDate DESC, a.id DESC")
+    List<UserActivityDto> findActivitiesByAuthor(@Param("userId") Long userId,
+                                                 @Param("cursorDate") LocalDateTime cursorDate,
+                                                 @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 상세 조회: 작성자, 답변, 답변 작성자를 한 번에 조회 (답변 수만큼 쿼리가 늘지 않도록)
+    @EntityGraph(attributePaths = {"author", "answers", "answers.author"})
+    @Query("SELECT q FROM Question q WHERE q.id = :id")
+    Optional<Question> findDetailById(@Param("id") Long id);
+
+    // 본문(LONGTEXT) 없이 질문, 답변과 작성자들의 수정 시각만 조회 (응답에 닉네임/프로필/레벨이 담기므로 작성자 변경도 반영)
+    @Query("SELECT new com.example.titto_backend.common.util.ContentVersion("
+            + "q.updateDate, MAX(a.updateDate), qa.updateDate, MAX(aa.updateDate)) "
+            + "FROM Question q JOIN q.author qa LEFT JOIN q.answers a LEFT JOIN a.author aa"
+            + " WHERE q.id = :id GROUP BY q.id, q.updateDate, qa.updateDate")
+    Optional<ContentVersion> findContentVersionById(@Param("id") Long id);
+
+    @Query("SELECT q.department FROM Question q WHERE q.id = :id")
+    Optional<Department> findDepartmentById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Question q SET q.viewCount = q.viewCount + 1 WHERE q.id = :id")
+    int increaseViewCount(@Param("id") Long id);
 }
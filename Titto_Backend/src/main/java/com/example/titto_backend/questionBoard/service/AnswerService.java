@@ -2,16 +2,22 @@ package com.example.titto_backend.questionBoard.service;
 
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
-import com.example.titto_backend.auth.service.BadgeService;
 import com.example.titto_backend.auth.service.ExperienceService;
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.dto.DomainEventDTO;
+import com.example.titto_backend.common.event.service.OutboxEventPublisher;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CacheUtil;
 import com.example.titto_backend.questionBoard.domain.Answer;
 import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.domain.Status;
 import com.example.titto_backend.questionBoard.dto.AnswerDTO;
 import com.example.titto_backend.questionBoard.repository.AnswerRepository;
 import com.example.titto_backend.questionBoard.repository.QuestionRepository;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,12 +26,17 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AnswerService {
 
+    private static final int ANSWER_EXPERIENCE = 5;
+    private static final int ACCEPT_EXPERIENCE = 35;
+
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
 
     private final ExperienceService experienceService;
-    private final BadgeService badgeService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final CacheUtil cacheUtil;
+    private final BoardPageCache boardPageCache;
 
     @Transactional
     public AnswerDTO.Response save(AnswerDTO.Request request, Long questionId, String email) {
@@ -41,14 +52,19 @@ public class AnswerService {
                 .content(request.getContent())
                 .build();
 
+        experienceService.validateExperienceReceiver(question.getAuthor(), user);
+
         Answer savedAnswer = answerRepository.save(answer);
         Integer updateUserCountAnswer = user.getCountAnswer() + 1;
         user.setCountAnswer(updateUserCountAnswer);
         question.setAnswerCount(question.getAnswerCount() + 1);
-        badgeService.getAnswerBadge(user, user.getCountAnswer());  // 뱃지 여부 판단
+        cacheUtil.evict(CacheUtil.QUESTION_DETAIL, question.getId());
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
+        boardPageCache.invalidate(QuestionService.boardPageKeys(question));
 
-        // 답변을 작성한 사용자의 경험치 추가
-        experienceService.addExperience(question.getAuthor(), user, 5);
+        // 뱃지 판단, 경험치 추가, 활동 테이블 반영은 outbox 이벤트로 비동기 처리
+        outboxEventPublisher.publish(EventType.ANSWER_CREATED, savedAnswer.getId(),
+                new DomainEventDTO.AnswerCreated(savedAnswer.getId(), question.getId(), user.getId(), ANSWER_EXPERIENCE));
 
         return new AnswerDTO.Response(savedAnswer);
     }
@@ -59,6 +75,9 @@ public class AnswerService {
                 .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_NOT_FOUND));
         validateAnswerAuthorIsLoggedInUser(answer, user);
         answer.setContent(request.getContent());
+        cacheUtil.evict(CacheUtil.QUESTION_DETAIL, answer.getQuestion().getId());
+        boardPageCache.invalidate(QuestionService.boardPageKeys(answer.getQuestion()));
+        outboxEventPublisher.publish(EventType.ANSWER_UPDATED, id, new DomainEventDTO.ContentChanged(id, user.getId()));
         return new AnswerDTO.Response(answer);
     }
 
@@ -73,10 +92,16 @@ public class AnswerService {
         question.setAnswerCount(question.getAnswerCount() - 1);
 
         User answerAuthor = answer.getAuthor();
-        answerAuthor.setTotalExperience(answerAuthor.getTotalExperience() - 5);
-        answerAuthor.setCurrentExperience(answerAuthor.getCurrentExperience() - 5);
+        experienceService.revokeExperience(answerAuthor, ANSWER_EXPERIENCE);
 
         answerRepository.deleteById(answerId);
+        cacheUtil.evict(CacheUtil.QUESTION_DETAIL, question.getId());
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
+        cacheUtil.evict(CacheUtil.USER_PROFILE, answerAuthor.getId());
+        boardPageCache.invalidate(QuestionService.boardPageKeys(question));
+
+        outboxEventPublisher.publish(EventType.ANSWER_DELETED, answerId,
+                new DomainEventDTO.ContentChanged(answerId, answerAuthor.getId()));
     }
 
     @Transactional
@@ -92,16 +117,25 @@ public class AnswerService {
             throw new CustomException(ErrorCode.CANNOT_ACCEPTED);
         }
 
+        // 상태가 바뀌므로 이전/이후 상태의 첫 페이지 모두 무효화
+        List<String> staleBoardPages = new ArrayList<>(QuestionService.boardPageKeys(question));
         answer.setAccepted(true);
         question.setStatus(Status.valueOf("SOLVED"));
         question.setAnswerAccepted(true);  // 일단 임시 추가
 
         User answerAuthor = answer.getAuthor();
+        experienceService.validateExperienceReceiver(question.getAuthor(), answerAuthor);
+
         Integer updateCountAccept = answerAuthor.getCountAccept() + 1;
         answerAuthor.setCountAccept(updateCountAccept);
-
-        experienceService.addExperience(question.getAuthor(), answerAuthor, 35 + question.getSendExperience());
-        badgeService.getAcceptBadge(answerAuthor, answerAuthor.getCountAccept());
+        cacheUtil.evict(CacheUtil.QUESTION_DETAIL, questionId);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, answerAuthor.getId());
+        staleBoardPages.addAll(QuestionService.boardPageKeys(question));
+        boardPageCache.invalidate(staleBoardPages);
+
+        outboxEventPublisher.publish(EventType.ANSWER_ACCEPTED, answer.getId(),
+                new DomainEventDTO.AnswerAccepted(answer.getId(), question.getId(), answerAuthor.getId(),
+                        ACCEPT_EXPERIENCE + question.getSendExperience()));
     }
 
     private void validateQuestionAuthorIsLoggedInUser(Question question, User user) {
@@ -1,11 +1,21 @@
 package com.example.titto_backend.questionBoard.service;
 
+import com.example.titto_backend.auth.config.ReplicationRoutingDataSource;
 import com.example.titto_backend.auth.domain.User;
 import com.example.titto_backend.auth.repository.UserRepository;
-import com.example.titto_backend.auth.service.BadgeService;
 import com.example.titto_backend.auth.service.ExperienceService;
+import com.example.titto_backend.common.event.domain.EventType;
+import com.example.titto_backend.common.event.dto.DomainEventDTO;
+import com.example.titto_backend.common.event.service.OutboxEventPublisher;
 import com.example.titto_backend.common.exception.CustomException;
 import com.example.titto_backend.common.exception.ErrorCode;
+import com.example.titto_backend.common.trending.domain.TrendingBoard;
+import com.example.titto_backend.common.trending.domain.TrendingSignal;
+import com.example.titto_backend.common.trending.service.TrendingScoreService;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CacheUtil;
+import com.example.titto_backend.common.util.CachedJson;
+import com.example.titto_backend.common.util.ContentVersion;
 import com.example.titto_backend.common.util.RedisUtil;
 import com.example.titto_backend.questionBoard.domain.Answer;
 import com.example.titto_backend.questionBoard.domain.Department;
@@ -13,12 +23,18 @@ import com.example.titto_backend.questionBoard.domain.Question;
 import com.example.titto_backend.questionBoard.domain.Status;
 import com.example.titto_backend.questionBoard.dto.QuestionDTO;
 import com.example.titto_backend.questionBoard.dto.QuestionDTO.Response;
+import com.example.titto_backend.questionBoard.dto.QuestionPreviewDTO;
 import com.example.titto_backend.questionBoard.repository.AnswerRepository;
 import com.example.titto_backend.questionBoard.repository.QuestionRepository;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,6 +45,10 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class QuestionService {
 
+    private static final String BOARD_PAGE_ALL = "question:all";
+    private static final String BOARD_PAGE_CATEGORY = "question:category:";
+    private static final String BOARD_PAGE_STATUS = "question:status:";
+
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final AnswerRepository answerRepository;
@@ -36,7 +56,10 @@ public class QuestionService {
     private final ExperienceService experienceService;
     private final AnswerService answerService;
     private final RedisUtil redisUtil;
-    private final BadgeService badgeService;
+    private final CacheUtil cacheUtil;
+    private final BoardPageCache boardPageCache;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TrendingScoreService trendingScoreService;
 
     @Transactional
     public String save(String email, QuestionDTO.Request request) throws CustomException {
@@ -45,9 +68,8 @@ public class QuestionService {
 
         experienceService.deductExperience(user, request.getSendExperience());
         user.setCountQuestion(user.getCountQuestion() + 1);
-        badgeService.getQuestionBadge(user, user.getCountQuestion());
 
-        questionRepository.save(Question.builder()
+        Question question = questionRepository.save(Question.builder()
                 .title(request.getTitle())
                 .author(user)
                 .content(request.getContent())
@@ -58,44 +80,90 @@ public class QuestionService {
                 .answerCount(0)
                 .isAnswerAccepted(false)
                 .build());
+        boardPageCache.invalidate(boardPageKeys(question));
+
+        // 뱃지 판단, 활동 테이블 반영은 outbox 이벤트로 비동기 처리
+        outboxEventPublisher.publish(EventType.QUESTION_CREATED, question.getId(),
+                new DomainEventDTO.QuestionCreated(question.getId(), user.getId()));
 
         return "질문이 성공적으로 등록되었습니다.";
     }
 
-    @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> findAll(int page) {
+    // 첫 페이지는 직렬화된 JSON을 캐시에서 바로 응답 (트랜잭션은 캐시 미스일 때만 시작)
+    // 목록에는 본문 미리보기만 내려주고 전체 본문과 답변 목록은 상세 조회에서 제공
+    public CachedJson findAll(int page) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findAllByOrderByCreateDateDesc(pageable).map(QuestionDTO.Response::new);
+        return boardPageCache.get(BOARD_PAGE_ALL, page,
+                () -> questionRepository.findPreviews(pageable));
     }
 
-    @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> findByStatus(int page, String status) {
+    public CachedJson findByStatus(int page, String status) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findQuestionByStatus(Status.valueOf(status), pageable).map(QuestionDTO.Response::new);
+        Status questionStatus = Status.valueOf(status);
+        return boardPageCache.get(BOARD_PAGE_STATUS + questionStatus, page,
+                () -> questionRepository.findPreviewsByStatus(questionStatus, pageable));
     }
 
+    // 조회수 집계 후 본문 없이 수정 시각만 반환 (변경이 없으면 컨트롤러에서 304 응답)
+    // 조회수는 엔티티를 읽지 않고 UPDATE 한 번으로 증가
     @Transactional
-    public QuestionDTO.Response findById(Principal principal, Long Id) {
-        User user = userRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-        Question question = questionRepository.findById(Id)
+    public ContentVersion recordView(Principal principal, Long Id) {
+        ContentVersion version = questionRepository.findContentVersionById(Id)
                 .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
-        countViews(user, question);
-        return new Response(question);
+        countViews(principal.getName(), Id);
+        return version;
     }
 
+    // 상세 응답(답변 목록 포함)은 캐시 (캐시된 응답의 조회수는 TTL 이내로 늦게 반영됨)
+    // version은 프라이머리에서 읽었으므로 캐시에 적재할 본문도 프라이머리에서 읽음 (레플리카의 이전 본문이 새 ETag로 캐시되지 않도록)
     @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> findByCategory(int page, String category) {
+    public QuestionDTO.Response findById(Long Id, ContentVersion version) {
+        return ReplicationRoutingDataSource.readFromPrimary(() -> {
+            QuestionDTO.Response response = cacheUtil.get(CacheUtil.QUESTION_DETAIL, Id, () -> loadDetail(Id));
+            // 다른 서버에서 질문이나 답변이 수정되어 로컬 캐시가 오래된 경우 다시 조회 (ETag와 본문을 일치시킴)
+            if (!response.contentVersion().isSameAs(version)) {
+                response = loadDetail(Id);
+                cacheUtil.put(CacheUtil.QUESTION_DETAIL, Id, response);
+            }
+            return response;
+        });
+    }
+
+    private QuestionDTO.Response loadDetail(Long id) {
+        return questionRepository.findDetailById(id)
+                .map(Response::new)
+                .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
+    }
+
+    public CachedJson findByCategory(int page, String category) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findByDepartmentOrderByCreateDateDesc(pageable,
-                        Department.valueOf(category.toUpperCase()))
-                .map(QuestionDTO.Response::new);
+        Department department = Department.valueOf(category.toUpperCase());
+        return boardPageCache.get(BOARD_PAGE_CATEGORY + department, page,
+                () -> questionRepository.findPreviewsByDepartment(department, pageable));
+    }
+
+    // 인기 질문 (Redis 점수 순 ID를 기본 키로 조회, 삭제되었거나 학과가 바뀐 질문은 제외)
+    @Transactional(readOnly = true)
+    public List<QuestionPreviewDTO> findTrending(String category, int size) {
+        String department = category == null ? null : Department.valueOf(category.toUpperCase()).name();
+        List<Long> ids = trendingScoreService.top(TrendingBoard.QUESTION, department, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, QuestionPreviewDTO> previews = questionRepository.findPreviewsByIdIn(ids).stream()
+                .filter(preview -> department == null || department.equals(preview.getDepartment()))
+                .collect(Collectors.toMap(QuestionPreviewDTO::getId, Function.identity()));
+        return ids.stream()
+                .map(previews::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional(readOnly = true)
-    public Page<QuestionDTO.Response> searchByKeyword(String keyWord, int page) {
+    public Page<QuestionPreviewDTO> searchByKeyword(String keyWord, int page) {
         Pageable pageable = Pageable.ofSize(10).withPage(page);
-        return questionRepository.findByTitleContaining(keyWord, pageable).map(QuestionDTO.Response::new);
+        return questionRepository.findPreviewsByTitleContaining(keyWord, pageable);
     }
 
     @Transactional
@@ -106,12 +174,19 @@ public class QuestionService {
 
         experienceService.deductExperience(user, update.getSendExperience()); // 유저 경험치 차감
 
+        // 카테고리가 바뀌면 이전/이후 카테고리의 첫 페이지 모두 무효화
+        List<String> staleBoardPages = new ArrayList<>(boardPageKeys(oldQuestion));
         oldQuestion.update(
                 update.getTitle(),
                 update.getContent(),
                 Department.valueOf(String.valueOf(update.getDepartment())),
                 update.getSendExperience()
         );
+        staleBoardPages.addAll(boardPageKeys(oldQuestion));
+        boardPageCache.invalidate(staleBoardPages);
+        cacheUtil.evict(CacheUtil.QUESTION_DETAIL, id);
+
+        outboxEventPublisher.publish(EventType.QUESTION_UPDATED, id, new DomainEventDTO.ContentChanged(id, user.getId()));
     }
 
     @Transactional
@@ -119,6 +194,10 @@ public class QuestionService {
         validateAuthorIsLoggedInUser(id, user);
         user.setCountQuestion(user.getCountQuestion() - 1);
 
+        Question question = questionRepository.findById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
+        boardPageCache.invalidate(boardPageKeys(question));
+
         List<Answer> answers = answerRepository.findByQuestionId(id);
 
         answers.forEach(answer -> {
@@ -127,11 +206,21 @@ public class QuestionService {
         });
 
         questionRepository.deleteById(id);
+        cacheUtil.evict(CacheUtil.QUESTION_DETAIL, id);
+        cacheUtil.evict(CacheUtil.USER_PROFILE, user.getId());
+
+        outboxEventPublisher.publish(EventType.QUESTION_DELETED, id, new DomainEventDTO.ContentChanged(id, user.getId()));
+    }
+
+    // 질문이 노출되는 게시판 첫 페이지 캐시 키 (전체, 카테고리별, 상태별)
+    public static List<String> boardPageKeys(Question question) {
+        return List.of(BOARD_PAGE_ALL, BOARD_PAGE_CATEGORY + question.getDepartment(),
+                BOARD_PAGE_STATUS + question.getStatus());
     }
 
     private void isAcceptAnswer(Question question, User user) {
         if (!question.isAnswerAccepted()) {
-            user.setCurrentExperience(user.getCurrentExperience() + question.getSendExperience());
+            experienceService.refundExperience(user, question.getSendExperience());
         } else {
             throw new CustomException(ErrorCode.DELETE_NOT_ALLOWED);
         }
@@ -149,20 +238,16 @@ public class QuestionService {
     }
 
     @Transactional
-    public void countViews(User user, Question question) {
-        String key = String.format("QuestionBoardViewCount:%d:%d", user.getId(), question.getId());
-        String viewCount = redisUtil.getData(key);
+    public void countViews(String email, Long questionId) {
+        String key = String.format("QuestionBoardViewCount:%s:%d", email, questionId);
 
-        if (viewCount == null) {
-            redisUtil.setDateExpire(key, "1", calculateTimeUntilMidnight());
-            question.addViewCount();
-        } else {
-            int count = Integer.parseInt(viewCount);
-            if (count < 1) {
-                count++;
-                redisUtil.setDateExpire(key, String.valueOf(count), calculateTimeUntilMidnight());
-                question.addViewCount();
-            }
+        // 하루 한 번만 집계: SET NX EX 한 번의 왕복으로 확인과 기록을 처리
+        // Redis를 사용할 수 없으면 중복 체크 없이 집계
+        if (redisUtil.fallback("viewCount", () -> redisUtil.setIfAbsent(key, "1", calculateTimeUntilMidnight()),
+                () -> true)) {
+            questionRepository.increaseViewCount(questionId);
+            questionRepository.findDepartmentById(questionId).ifPresent(department -> trendingScoreService.record(
+                    TrendingBoard.QUESTION, questionId, department.name(), TrendingSignal.VIEW));
         }
     }
 
@@ -0,0 +1,30 @@
+package com.example.titto_backend;
+
+import com.example.titto_backend.auth.domain.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+// JPA 슬라이스 테스트 공통 설정 (test 프로필의 H2 MySQL 호환 모드) 과 테스트 데이터 생성
+// 필요한 서비스/설정은 각 테스트에서 @Import
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public abstract class JpaTestSupport {
+
+    @Autowired
+    protected TestEntityManager em;
+
+    // name@office.skhu.ac.kr, 닉네임 name, 레벨 1인 사용자
+    protected User saveUser(String name) {
+        User user = User.builder()
+                .email(name + "@office.skhu.ac.kr")
+                .socialId(name)
+                .build();
+        user.setNickname(name);
+        user.setLevel(1);
+        return em.persist(user);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.titto_backend;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.methods;
+
+import com.example.titto_backend.common.util.CachedJson;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.junit.AnalyzeClasses;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+import java.util.regex.Pattern;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+// 서비스의 조회 메서드가 쓰기 트랜잭션(더티 체킹, 플러시)으로 실행되지 않도록 강제
+@AnalyzeClasses(packages = "com.example.titto_backend", importOptions = ImportOption.DoNotIncludeTests.class)
+class ReadOnlyTransactionArchTest {
+
+    private static final Pattern QUERY_METHOD_NAME = Pattern.compile("^(find|get|search|is).*|.*View$");
+
+    // 리포지토리를 호출하는 조회 메서드 (반환값이 없는 get* 은 배지 지급 같은 명령이므로 제외)
+    private static final DescribedPredicate<JavaMethod> QUERY_METHODS_USING_REPOSITORY =
+            DescribedPredicate.describe("서비스의 조회 메서드 중 리포지토리를 호출하는 메서드", method ->
+                    method.getOwner().isAnnotatedWith(Service.class)
+                            && method.getModifiers().contains(JavaModifier.PUBLIC)
+                            && QUERY_METHOD_NAME.matcher(method.getName()).matches()
+                            && !method.getRawReturnType().isEquivalentTo(void.class)
+                            && method.getMethodCallsFromSelf().stream()
+                            .anyMatch(call -> call.getTargetOwner().isAssignableTo(Repository.class)));
+
+    // 첫 페이지 캐시 경로는 캐시 미스일 때만 BoardPageCache의 읽기 전용 트랜잭션에서 조회
+    private static final DescribedPredicate<JavaMethod> CACHE_FIRST =
+            DescribedPredicate.describe("BoardPageCache를 거치는 메서드",
+                    method -> method.getRawReturnType().isEquivalentTo(CachedJson.class));
+
+    private static final ArchCondition<JavaMethod> BE_READ_ONLY_TRANSACTIONAL =
+            new ArchCondition<>("@Transactional(readOnly = true)가 선언되어 있어야 한다") {
+                @Override
+                public void check(JavaMethod method, ConditionEvents events) {
+                    boolean readOnly = method.tryGetAnnotationOfType(Transactional.class)
+                            .or(() -> method.getOwner().tryGetAnnotationOfType(Transactional.class))
+                            .map(Transactional::readOnly)
+                            .orElse(false);
+                    events.add(new SimpleConditionEvent(method, readOnly,
+                            method.getFullName() + " 은(는) 읽기 전용 트랜잭션이 아닙니다"));
+                }
+            };
+
+    @ArchTest
+    static final ArchRule 조회_메서드는_읽기_전용_트랜잭션 = methods()
+            .that(QUERY_METHODS_USING_REPOSITORY)
+            .and(DescribedPredicate.not(CACHE_FIRST))
+            .should(BE_READ_ONLY_TRANSACTIONAL);
+}
@@ -0,0 +1,74 @@
+package com.example.titto_backend.auth.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// H2 인메모리 DB 두 개를 프라이머리/레플리카 대용으로 두고 라우팅 결과를 검증
+class ReplicationRoutingDataSourceTest {
+
+    private static final String WHICH_NODE = "SELECT name FROM node";
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = node("primary");
+        DataSource replica = node("replica");
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replica));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThat(readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class)))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_프라이머리() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        assertThat(readWrite.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class)))
+                .isEqualTo("primary");
+    }
+
+    @Test
+    void 프라이머리_지정_시_읽기_전용_트랜잭션도_프라이머리() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        assertThat(ReplicationRoutingDataSource.readFromPrimary(() ->
+                readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class))))
+                .isEqualTo("primary");
+        assertThat(readOnly.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class)))
+                .isEqualTo("replica");
+    }
+
+    @Test
+    void 트랜잭션_밖_호출은_프라이머리() {
+        assertThat(jdbcTemplate.queryForObject(WHICH_NODE, String.class)).isEqualTo("primary");
+    }
+
+    private static DataSource node(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
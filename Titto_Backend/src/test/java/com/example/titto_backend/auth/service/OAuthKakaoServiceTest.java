@@ -0,0 +1,125 @@
+package com.example.titto_backend.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.titto_backend.auth.config.OAuthClientConfig;
+import com.example.titto_backend.auth.dto.response.TokenDTO;
+import com.example.titto_backend.common.exception.CustomException;
+import com.example.titto_backend.common.exception.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 로컬 스텁 OAuth 서버를 띄워 풀링/타임아웃/서킷 브레이커 동작을 검증
+class OAuthKakaoServiceTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private HttpServer stubServer;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private OAuthKakaoService oAuthKakaoService;
+
+    private final AtomicInteger tokenRequests = new AtomicInteger();
+    private volatile int tokenStatus = 200;
+    private volatile long tokenDelayMillis = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/oauth/token", this::handleToken);
+        stubServer.start();
+
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create().build();
+        OAuthHttpClient kakaoOAuthClient = OAuthClientConfig.createClient("kakao", new RestTemplateBuilder(),
+                connectionManager, new SimpleMeterRegistry(), Duration.ofMillis(300), READ_TIMEOUT,
+                ErrorCode.INVALID_KAKAO_VALUE);
+
+        oAuthKakaoService = new OAuthKakaoService(null, null, kakaoOAuthClient, null);
+        ReflectionTestUtils.setField(oAuthKakaoService, "KAKAO_CLIENT_ID", "client-id");
+        ReflectionTestUtils.setField(oAuthKakaoService, "KAKAO_CLIENT_SECRET", "client-secret");
+        ReflectionTestUtils.setField(oAuthKakaoService, "KAKAO_REDIRECT_URI", "http://localhost/callback");
+        ReflectionTestUtils.setField(oAuthKakaoService, "KAKAO_TOKEN_URI",
+                "http://127.0.0.1:" + stubServer.getAddress().getPort() + "/oauth/token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+        connectionManager.close();
+    }
+
+    @Test
+    void 토큰_발급_성공() {
+        TokenDTO.KakaoToken token = oAuthKakaoService.getToken("code");
+
+        assertThat(token.getKakaoAccessToken()).isEqualTo("kakao-access");
+        assertThat(token.getKakaoRefreshToken()).isEqualTo("kakao-refresh");
+    }
+
+    @Test
+    void 응답_지연시_타임아웃으로_503() {
+        tokenDelayMillis = READ_TIMEOUT.toMillis() * 3;
+
+        assertThatThrownBy(() -> oAuthKakaoService.getToken("code"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.OAUTH_SERVER_UNAVAILABLE);
+    }
+
+    @Test
+    void 잘못된_인가_코드는_400() {
+        tokenStatus = 400;
+
+        assertThatThrownBy(() -> oAuthKakaoService.getToken("invalid"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_KAKAO_VALUE);
+    }
+
+    @Test
+    void 서버_오류가_반복되면_서킷_브레이커가_호출을_차단() {
+        tokenStatus = 500;
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> oAuthKakaoService.getToken("code")).isInstanceOf(CustomException.class);
+        }
+        int requestsBeforeOpen = tokenRequests.get();
+
+        assertThatThrownBy(() -> oAuthKakaoService.getToken("code"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.OAUTH_SERVER_UNAVAILABLE);
+        assertThat(tokenRequests.get()).isEqualTo(requestsBeforeOpen);
+    }
+
+    private void handleToken(HttpExchange exchange) throws IOException {
+        tokenRequests.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        try {
+            Thread.sleep(tokenDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = "{\"access_token\":\"kakao-access\",\"refresh_token\":\"kakao-refresh\",\"expires_in\":21599}"
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(tokenStatus, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+}
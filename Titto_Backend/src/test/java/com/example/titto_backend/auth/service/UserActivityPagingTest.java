@@ -0,0 +1,159 @@
+package com.example.titto_backend.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.titto_backend.JpaTestSupport;
+import com.example.titto_backend.auth.domain.ActivityType;
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.domain.UserActivity;
+import com.example.titto_backend.auth.dto.response.UserActivityDto;
+import com.example.titto_backend.auth.dto.response.UserActivityPageDto;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Category;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.MatchingPost;
+import com.example.titto_backend.matchingBoard.domain.matchingBoard.Status;
+import com.example.titto_backend.matchingBoard.domain.review.MatchingPostReview;
+import com.example.titto_backend.questionBoard.domain.Answer;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 작성일이 같은 활동이 여러 종류에 걸쳐 있을 때 커서 페이지가 중복/누락 없이 이어지는지 검증
+// (원본 테이블 k-way 병합, user_activity 테이블 조회 두 경로 모두)
+@Import(UserActivityService.class)
+class UserActivityPagingTest extends JpaTestSupport {
+
+    private static final LocalDateTime SAME_TIME = LocalDateTime.of(2026, 10, 19, 12, 0, 0);
+    private static final LocalDateTime EARLIER = SAME_TIME.minusMinutes(1);
+    private static final int PER_TYPE = 3;
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = saveUser("writer");
+        User other = saveUser("other");
+        Question othersQuestion = saveQuestion(other);
+        MatchingPost othersPost = saveMatchingPost(other);
+
+        Question earliest = saveQuestion(writer);
+        for (int i = 0; i < PER_TYPE; i++) {
+            if (i > 0) {
+                saveQuestion(writer);
+            }
+            saveMatchingPost(writer);
+            em.persist(Answer.builder()
+                    .question(othersQuestion)
+                    .author(writer)
+                    .content("답변" + i)
+                    .build());
+            em.persist(MatchingPostReview.builder()
+                    .matchingPost(othersPost)
+                    .reviewAuthor(writer)
+                    .content("리뷰" + i)
+                    .build());
+        }
+        em.flush();
+
+        // 모든 활동의 작성일을 같게 맞추고 작성자의 질문 하나만 이전 시각으로 둠 (작성일 경계도 함께 검증)
+        for (String table : List.of("question", "matching_post", "answer", "matching_post_review")) {
+            em.getEntityManager().createNativeQuery("UPDATE " + table + " SET create_date = ?1")
+                    .setParameter(1, SAME_TIME)
+                    .executeUpdate();
+        }
+        em.getEntityManager().createNativeQuery("UPDATE question SET create_date = ?1 WHERE question_id = ?2")
+                .setParameter(1, EARLIER)
+                .setParameter(2, earliest.getId())
+                .executeUpdate();
+        em.clear();
+    }
+
+    @Test
+    void 같은_작성일의_여러_종류_활동을_중복_누락_없이_페이지로_나눈다() {
+        ReflectionTestUtils.setField(userActivityService, "readFromActivityTable", false);
+
+        for (int size = 1; size <= 5; size++) {
+            assertPagedWithoutGapsOrRepeats(size);
+        }
+    }
+
+    @Test
+    void 활동_테이블에서도_같은_작성일의_활동을_중복_누락_없이_페이지로_나눈다() {
+        for (ActivityType type : ActivityType.values()) {
+            for (long refId = 1; refId <= PER_TYPE; refId++) {
+                em.persist(UserActivity.builder()
+                        .userId(writer.getId())
+                        .activityType(type)
+                        .refId(refId)
+                        .postId(refId)
+                        .title(type + " " + refId)
+                        .content("")
+                        .createdAt(SAME_TIME)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+        ReflectionTestUtils.setField(userActivityService, "readFromActivityTable", true);
+
+        for (int size = 1; size <= 5; size++) {
+            assertPagedWithoutGapsOrRepeats(size);
+        }
+    }
+
+    private void assertPagedWithoutGapsOrRepeats(int size) {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            UserActivityPageDto page = userActivityService.findActivities(writer.getId(), cursor, size);
+            assertThat(page.getActivities()).hasSizeLessThanOrEqualTo(size);
+            page.getActivities().forEach(activity -> seen.add(key(activity)));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        Set<String> unique = new HashSet<>(seen);
+        assertThat(seen).as("page size %d", size).hasSize(unique.size());
+        assertThat(seen).as("page size %d", size).hasSize(PER_TYPE * ActivityType.values().length);
+    }
+
+    private static String key(UserActivityDto activity) {
+        return activity.getType() + ":" + activity.getId();
+    }
+
+    private Question saveQuestion(User author) {
+        return em.persist(Question.builder()
+                .author(author)
+                .title("질문")
+                .content("본문")
+                .department(Department.SOFTWARE)
+                .status(com.example.titto_backend.questionBoard.domain.Status.UNSOLVED)
+                .sendExperience(0)
+                .viewCount(0)
+                .answerCount(0)
+                .isAnswerAccepted(false)
+                .build());
+    }
+
+    private MatchingPost saveMatchingPost(User author) {
+        return em.persist(MatchingPost.builder()
+                .user(author)
+                .category(Category.STUDY)
+                .status(Status.RECRUITING)
+                .title("매칭 게시글")
+                .content("본문")
+                .viewCount(0)
+                .reviewCount(0)
+                .build());
+    }
+}
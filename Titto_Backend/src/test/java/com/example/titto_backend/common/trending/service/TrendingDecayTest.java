@@ -0,0 +1,59 @@
+package com.example.titto_backend.common.trending.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+// 고정된 시각으로 증가량과 이전 주기 이월 계산을 검증 (반감기 6시간, 주기 1일)
+class TrendingDecayTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    // 주기 경계 (UTC 자정)
+    private static final long PERIOD_START = Instant.parse("2026-10-19T00:00:00Z").toEpochMilli();
+
+    private final TrendingDecay decay = new TrendingDecay(6);
+
+    @Test
+    void 주기_시작_시점의_증가량은_가중치와_같다() {
+        assertThat(decay.increment(5, PERIOD_START)).isEqualTo(5.0);
+    }
+
+    @Test
+    void 반감기가_지날_때마다_증가량이_두_배가_된다() {
+        assertThat(decay.increment(5, PERIOD_START + 6 * HOUR)).isCloseTo(10.0, within(1e-9));
+        assertThat(decay.increment(5, PERIOD_START + 12 * HOUR)).isCloseTo(20.0, within(1e-9));
+    }
+
+    @Test
+    void 주기_경계에서_새_주기로_넘어간다() {
+        assertThat(decay.period(PERIOD_START - 1)).isEqualTo(decay.period(PERIOD_START) - 1);
+        assertThat(decay.period(PERIOD_START + 24 * HOUR - 1)).isEqualTo(decay.period(PERIOD_START));
+    }
+
+    @Test
+    void 이월된_점수는_현재_주기_기준으로_계산한_점수와_같다() {
+        // 이전 주기 18시의 답변: 이전 주기 기준 5 * 2^3 = 40
+        long previousEvening = PERIOD_START - 6 * HOUR;
+        double carriedOver = decay.increment(5, previousEvening) * decay.carryOverFactor();
+
+        // 현재 주기 시작 6시간 전이므로 현재 주기 기준으로는 5 * 2^-1
+        assertThat(carriedOver).isCloseTo(2.5, within(1e-9));
+    }
+
+    @Test
+    void 이월_후에도_같은_시간이_지난_점수의_비율은_유지된다() {
+        // 이전 주기 23시 조회 1번과 현재 주기 5시 조회 1번: 6시간 차이이므로 두 배
+        double older = decay.increment(1, PERIOD_START - HOUR) * decay.carryOverFactor();
+        double newer = decay.increment(1, PERIOD_START + 5 * HOUR);
+
+        assertThat(newer / older).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    void 하루가_지난_점수는_반감기_네_번만큼_줄어든다() {
+        assertThat(decay.carryOverFactor()).isCloseTo(1.0 / 16, within(1e-12));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.titto_backend.message.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.titto_backend.JpaTestSupport;
+import com.example.titto_backend.auth.config.QueryCountConfig;
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.common.util.QueryCounter;
+import com.example.titto_backend.message.domain.Message;
+import com.example.titto_backend.message.dto.MessageDTO;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+// 쪽지함/대화 조회의 SQL 문 개수 검증 (대화 상대, 메시지 수에 비례해 늘지 않아야 함)
+@Import({QueryCountConfig.class, MessageService.class})
+class MessageServiceQueryCountTest extends JpaTestSupport {
+
+    @Autowired
+    private MessageService messageService;
+
+    @MockBean
+    private MessageUnreadService messageUnreadService;
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.end();
+    }
+
+    @Test
+    void 쪽지함_조회는_대화_상대_수와_관계없이_같은_쿼리_수() {
+        saveConversations("alice", 2);
+        saveConversations("bob", 6);
+        em.flush();
+
+        long aliceCount = countConversationQueries("alice", 2);
+        long bobCount = countConversationQueries("bob", 6);
+
+        assertThat(bobCount).isEqualTo(aliceCount);
+        assertThat(bobCount).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 대화_조회는_메시지_수와_관계없이_3회_이하() {
+        User carol = saveUser("carol");
+        User dave = saveUser("dave");
+        for (int i = 0; i < 20; i++) {
+            saveMessage(i % 2 == 0 ? carol : dave, i % 2 == 0 ? dave : carol);
+        }
+        em.flush();
+        em.clear();
+
+        QueryCounter.begin();
+        List<MessageDTO.Response> messages = messageService.getBothMessages("carol@office.skhu.ac.kr", dave.getId());
+
+        assertThat(messages).hasSize(20);
+        assertThat(QueryCounter.count()).isLessThanOrEqualTo(3);
+    }
+
+    // 컨트롤러와 같이 대화 목록을 Preview로 변환하는 것까지 포함해서 센다
+    private long countConversationQueries(String name, int partners) {
+        em.clear();
+        QueryCounter.begin();
+        List<MessageDTO.Preview> previews = messageService.getUserConversations(name + "@office.skhu.ac.kr")
+                .values().stream()
+                .map(MessageDTO.Preview::new)
+                .toList();
+        assertThat(previews).hasSize(partners);
+        return QueryCounter.end();
+    }
+
+    private void saveConversations(String name, int partners) {
+        User user = saveUser(name);
+        for (int i = 0; i < partners; i++) {
+            User partner = saveUser(name + "-partner" + i);
+            saveMessage(user, partner);
+            saveMessage(partner, user);
+        }
+    }
+
+    private void saveMessage(User sender, User receiver) {
+        em.persist(Message.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .senderNickname(sender.getNickname())
+                .receiverNickname(receiver.getNickname())
+                .content("안녕하세요")
+                .build());
+    }
+}
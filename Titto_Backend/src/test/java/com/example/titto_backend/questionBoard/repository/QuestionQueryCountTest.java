@@ -0,0 +1,146 @@
+package com.example.titto_backend.questionBoard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.example.titto_backend.JpaTestSupport;
+import com.example.titto_backend.auth.config.QueryCountConfig;
+import com.example.titto_backend.auth.domain.User;
+import com.example.titto_backend.auth.service.ExperienceService;
+import com.example.titto_backend.common.event.service.OutboxEventPublisher;
+import com.example.titto_backend.common.trending.service.TrendingScoreService;
+import com.example.titto_backend.common.util.BoardPageCache;
+import com.example.titto_backend.common.util.CacheUtil;
+import com.example.titto_backend.common.util.CachedJson;
+import com.example.titto_backend.common.util.QueryCounter;
+import com.example.titto_backend.common.util.RedisUtil;
+import com.example.titto_backend.questionBoard.domain.Answer;
+import com.example.titto_backend.questionBoard.domain.Department;
+import com.example.titto_backend.questionBoard.domain.Question;
+import com.example.titto_backend.questionBoard.domain.Status;
+import com.example.titto_backend.questionBoard.dto.QuestionDTO;
+import com.example.titto_backend.questionBoard.service.AnswerService;
+import com.example.titto_backend.questionBoard.service.QuestionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+// 질문 목록/상세 조회의 SQL 문 개수 검증 (N+1 회귀 방지)
+@Import({QueryCountConfig.class, QuestionService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class QuestionQueryCountTest extends JpaTestSupport {
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // 목록 조회에서 쓰지 않는 의존성
+    @MockBean
+    private ExperienceService experienceService;
+    @MockBean
+    private AnswerService answerService;
+    @MockBean
+    private RedisUtil redisUtil;
+    @MockBean
+    private CacheUtil cacheUtil;
+    @MockBean
+    private OutboxEventPublisher outboxEventPublisher;
+    @MockBean
+    private TrendingScoreService trendingScoreService;
+
+    // 캐시 미스일 때와 같이 loader 조회 결과를 JSON으로 직렬화해서 반환
+    @MockBean
+    private BoardPageCache boardPageCache;
+
+    @BeforeEach
+    void setUp() {
+        given(boardPageCache.get(anyString(), anyInt(), any())).willAnswer(invocation -> {
+            Supplier<Object> loader = invocation.getArgument(2);
+            return new CachedJson(objectMapper.writeValueAsString(loader.get()));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.end();
+    }
+
+    @Test
+    void 목록_조회는_3회_이하() throws Exception {
+        for (int i = 0; i < 15; i++) {
+            saveQuestion("author" + i, 3);
+        }
+        em.flush();
+        em.clear();
+
+        // 컨트롤러와 같은 서비스 경로로 조회하고 응답 JSON 직렬화까지 포함해서 센다
+        QueryCounter.begin();
+        JsonNode page = objectMapper.readTree(questionService.findAll(0).getJson());
+
+        assertThat(page.get("content")).hasSize(10);
+        assertThat(page.get("totalElements").asLong()).isEqualTo(15);
+        assertThat(QueryCounter.count()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 상세_조회는_답변이_늘어도_쿼리_수가_같다() {
+        Long fewAnswers = saveQuestion("few", 1).getId();
+        Long manyAnswers = saveQuestion("many", 8).getId();
+        em.flush();
+
+        long fewCount = countDetailQueries(fewAnswers);
+        long manyCount = countDetailQueries(manyAnswers);
+
+        assertThat(manyCount).isEqualTo(fewCount);
+        assertThat(manyCount).isLessThanOrEqualTo(2);
+    }
+
+    // 상세 응답(QuestionDTO.Response)까지 만들어 지연 로딩 쿼리도 포함해서 센다
+    private long countDetailQueries(Long id) {
+        em.clear();
+        QueryCounter.begin();
+        QuestionDTO.Response response = questionRepository.findDetailById(id)
+                .map(QuestionDTO.Response::new)
+                .orElseThrow();
+        assertThat(response.getAnswerList()).isNotEmpty();
+        return QueryCounter.end();
+    }
+
+    private Question saveQuestion(String authorName, int answerCount) {
+        Question question = em.persist(Question.builder()
+                .author(saveUser(authorName))
+                .title(authorName + " 질문")
+                .content("본문".repeat(500))
+                .department(Department.SOFTWARE)
+                .status(Status.UNSOLVED)
+                .sendExperience(10)
+                .viewCount(0)
+                .answerCount(answerCount)
+                .isAnswerAccepted(false)
+                .build());
+        for (int i = 0; i < answerCount; i++) {
+            em.persist(Answer.builder()
+                    .question(question)
+                    .author(saveUser(authorName + "-answerer" + i))
+                    .content("답변".repeat(200))
+                    .build());
+        }
+        return question;
+    }
+}
@@ -9,12 +9,24 @@ DEPLOY_LOG="$PROJECT_ROOT/deploy.log"
 
 TIME_NOW=$(date +%c)
 
+# 요청 처리 스레드 모드 (platform | virtual), virtual은 Java 21 이상 필요
+THREAD_MODE="${THREAD_MODE:-platform}"
+JAVA_OPTS=""
+APP_ARGS=""
+
+if [ "$THREAD_MODE" = "virtual" ]; then
+  # synchronized 구간에서 캐리어 스레드에 고정(pinning)된 가상 스레드의 스택을 출력하고,
+  # JFR(jdk.VirtualThreadPinned 이벤트)로 pinning 발생 위치/시간을 기록
+  JAVA_OPTS="-Djdk.tracePinnedThreads=short -XX:StartFlightRecording=name=pinning,filename=$PROJECT_ROOT/pinning.jfr,maxage=6h,dumponexit=true"
+  APP_ARGS="--spring.profiles.active=local,production,virtual"
+fi
+
 # jar 파일 실행
-echo "$TIME_NOW > $JAR_FILE 파일 실행" >> "$DEPLOY_LOG"
+echo "$TIME_NOW > $JAR_FILE 파일 실행 (thread mode: $THREAD_MODE)" >> "$DEPLOY_LOG"
 cd /home/ubuntu/app/Titto_Backend/build/libs
-sudo nohup java -jar "$JAR_FILE" > "$APP_LOG" 2>&1 &
+sudo nohup java $JAVA_OPTS -jar "$JAR_FILE" $APP_ARGS > "$APP_LOG" 2>&1 &
 
 sleep 5  # 프로세스가 실행되기를 기다립니다. 필요한 경우 조정하세요.
 
-CURRENT_PID=$(pgrep -f "java -jar $JAR_FILE")
+CURRENT_PID=$(pgrep -f "java .*-jar $JAR_FILE")
 echo "$TIME_NOW > 실행된 프로세스 아이디 $CURRENT_PID 입니다." >> "$DEPLOY_LOG"